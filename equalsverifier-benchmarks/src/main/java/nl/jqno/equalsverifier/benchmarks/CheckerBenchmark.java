@@ -0,0 +1,53 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import nl.jqno.equalsverifier.internal.checkers.*;
+import nl.jqno.equalsverifier.internal.util.Context;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures individual checkers. The {@link Context} is built once per trial, so this measures the checks themselves and
+ * not the configuration; the value providers' caches are warm after the first invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckerBenchmark {
+
+    public enum Kind {
+        FIELDS(FieldsChecker::new),
+        HIERARCHY(HierarchyChecker::new),
+        NULL(NullChecker::new),
+        EXAMPLES(ExamplesChecker::new);
+
+        private final Function<Context<Object>, Checker> factory;
+
+        Kind(Function<Context<Object>, Checker> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param
+    public Kind checker;
+
+    private Context<Object> context;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = (Context<Object>) Contexts.of(shape.type());
+    }
+
+    @Benchmark
+    public void check() {
+        checker.factory.apply(context).check();
+    }
+}
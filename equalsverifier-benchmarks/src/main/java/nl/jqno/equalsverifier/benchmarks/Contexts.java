@@ -0,0 +1,50 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.FieldNameExtractor;
+import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
+import org.objenesis.ObjenesisStd;
+
+/**
+ * Builds a {@link Context} the same way {@code SingleTypeEqualsVerifierApi} does when nothing has been configured, so
+ * that checkers can be benchmarked on their own.
+ */
+public final class Contexts {
+
+    private Contexts() {}
+
+    public static <T> Context<T> of(Class<T> type) {
+        var fieldCache = new FieldCache();
+        var config = Configuration
+                .build(
+                    type,
+                    null,
+                    null,
+                    new HashSet<>(),
+                    new HashSet<>(),
+                    new HashSet<>(),
+                    fieldCache.getFieldNames(),
+                    CachedHashCodeInitializer.passthrough(),
+                    false,
+                    null,
+                    null,
+                    null,
+                    false,
+                    EnumSet.noneOf(Warning.class),
+                    new HashSet<>(),
+                    null,
+                    new HashSet<>(),
+                    FieldNameExtractor.extractFieldNames(type),
+                    new ArrayList<>(),
+                    new ArrayList<>());
+        return new Context<>(config, new UserPrefabValueCaches(), fieldCache, new ObjenesisStd());
+    }
+}
@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.*;
+
+/**
+ * The kinds of classes the benchmarks are run against. Each one stresses a different part of EqualsVerifier.
+ */
+public enum Shape {
+    SMALL_RECORD(SmallRecord.class),
+    WIDE_POJO(WidePojo.class),
+    DEEP_HIERARCHY(DeepHierarchy.Leaf.class),
+    JPA_ID(JpaPerson.class),
+    JPA_NATURAL_ID(JpaBook.class),
+    SEALED(SealedVehicle.class),
+    KOTLIN_DATA_CLASS(KotlinPerson.class),
+    GENERIC(GenericContainer.class);
+
+    private final Class<?> type;
+
+    Shape(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+}
@@ -0,0 +1,26 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures a full {@code EqualsVerifier.forClass(...).verify()} run, including configuration and value creation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifyBenchmark {
+
+    @Param
+    public Shape shape;
+
+    @Benchmark
+    public void verify() {
+        EqualsVerifier.forClass(shape.type()).verify();
+    }
+}
@@ -0,0 +1,99 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A deep inheritance chain, where every level adds a field, and only the leaf implements equals and hashCode.
+ */
+public final class DeepHierarchy {
+
+    private DeepHierarchy() {}
+
+    public abstract static class Level1 {
+        protected final int level1;
+
+        protected Level1(int level1) {
+            this.level1 = level1;
+        }
+    }
+
+    public abstract static class Level2 extends Level1 {
+        protected final String level2;
+
+        protected Level2(int level1, String level2) {
+            super(level1);
+            this.level2 = level2;
+        }
+    }
+
+    public abstract static class Level3 extends Level2 {
+        protected final long level3;
+
+        protected Level3(int level1, String level2, long level3) {
+            super(level1, level2);
+            this.level3 = level3;
+        }
+    }
+
+    public abstract static class Level4 extends Level3 {
+        protected final Object level4;
+
+        protected Level4(int level1, String level2, long level3, Object level4) {
+            super(level1, level2, level3);
+            this.level4 = level4;
+        }
+    }
+
+    public abstract static class Level5 extends Level4 {
+        protected final boolean level5;
+
+        protected Level5(int level1, String level2, long level3, Object level4, boolean level5) {
+            super(level1, level2, level3, level4);
+            this.level5 = level5;
+        }
+    }
+
+    public abstract static class Level6 extends Level5 {
+        protected final Integer level6;
+
+        protected Level6(int level1, String level2, long level3, Object level4, boolean level5, Integer level6) {
+            super(level1, level2, level3, level4, level5);
+            this.level6 = level6;
+        }
+    }
+
+    public static final class Leaf extends Level6 {
+        private final String leaf;
+
+        public Leaf(
+                int level1,
+                String level2,
+                long level3,
+                Object level4,
+                boolean level5,
+                Integer level6,
+                String leaf) {
+            super(level1, level2, level3, level4, level5, level6);
+            this.leaf = leaf;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Leaf other)) {
+                return false;
+            }
+            return level1 == other.level1
+                    && Objects.equals(level2, other.level2)
+                    && level3 == other.level3
+                    && Objects.equals(level4, other.level4)
+                    && level5 == other.level5
+                    && Objects.equals(level6, other.level6)
+                    && Objects.equals(leaf, other.leaf);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(level1, level2, level3, level4, level5, level6, leaf);
+        }
+    }
+}
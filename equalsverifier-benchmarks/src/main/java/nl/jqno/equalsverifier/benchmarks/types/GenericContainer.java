@@ -0,0 +1,41 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.*;
+
+/**
+ * A class with nested generic fields, where resolving the type parameters dominates.
+ */
+public final class GenericContainer<K extends Comparable<K>, V> {
+
+    private final Map<K, List<V>> index;
+    private final Set<K> keys;
+    private final SortedMap<K, Map<String, Optional<V>>> nested;
+    private final List<Map.Entry<K, V>> entries;
+
+    public GenericContainer(
+            Map<K, List<V>> index,
+            Set<K> keys,
+            SortedMap<K, Map<String, Optional<V>>> nested,
+            List<Map.Entry<K, V>> entries) {
+        this.index = index;
+        this.keys = keys;
+        this.nested = nested;
+        this.entries = entries;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericContainer<?, ?> other)) {
+            return false;
+        }
+        return Objects.equals(index, other.index)
+                && Objects.equals(keys, other.keys)
+                && Objects.equals(nested, other.nested)
+                && Objects.equals(entries, other.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, keys, nested, entries);
+    }
+}
@@ -0,0 +1,35 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import nl.jqno.equalsverifier_testhelpers.annotations.org.hibernate.annotations.NaturalId;
+
+/**
+ * A JPA entity with a natural key, which is the only part of the equals/hashCode contract.
+ */
+@Entity
+public class JpaBook {
+
+    @Id
+    private long id;
+
+    @NaturalId
+    private String isbn;
+
+    private String title;
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof JpaBook other)) {
+            return false;
+        }
+        return Objects.equals(isbn, other.isbn);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(isbn);
+    }
+}
@@ -0,0 +1,32 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * A JPA entity with a surrogate key, which is not part of the equals/hashCode contract.
+ */
+@Entity
+public class JpaPerson {
+
+    @Id
+    private long id;
+
+    private String name;
+    private int age;
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof JpaPerson other)) {
+            return false;
+        }
+        return Objects.equals(name, other.name) && age == other.age;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(name, age);
+    }
+}
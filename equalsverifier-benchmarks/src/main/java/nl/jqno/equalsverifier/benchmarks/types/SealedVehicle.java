@@ -0,0 +1,42 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A sealed hierarchy, where EqualsVerifier has to pick a permitted subclass to instantiate.
+ */
+public abstract sealed class SealedVehicle permits SealedVehicle.Car, SealedVehicle.Bike {
+
+    private final String brand;
+    private final int wheels;
+
+    protected SealedVehicle(String brand, int wheels) {
+        this.brand = brand;
+        this.wheels = wheels;
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof SealedVehicle other)) {
+            return false;
+        }
+        return Objects.equals(brand, other.brand) && wheels == other.wheels;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(brand, wheels);
+    }
+
+    public static final class Car extends SealedVehicle {
+        public Car(String brand) {
+            super(brand, 4);
+        }
+    }
+
+    public static final class Bike extends SealedVehicle {
+        public Bike(String brand) {
+            super(brand, 2);
+        }
+    }
+}
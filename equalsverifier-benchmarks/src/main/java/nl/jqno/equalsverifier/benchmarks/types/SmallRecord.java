@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+public record SmallRecord(int id, String name) {}
@@ -0,0 +1,285 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+// CHECKSTYLE OFF: ParameterNumber
+// CHECKSTYLE OFF: CyclomaticComplexity
+// CHECKSTYLE OFF: NPathComplexity
+// CHECKSTYLE OFF: JavaNCSS
+// CHECKSTYLE OFF: ExecutableStatementCount
+
+/**
+ * A wide class with 50 fields of various types, where the cost of creating instances dominates.
+ */
+public final class WidePojo {
+
+    private final int field00;
+    private final String field01;
+    private final long field02;
+    private final double field03;
+    private final boolean field04;
+    private final Integer field05;
+    private final LocalDate field06;
+    private final List<String> field07;
+    private final char field08;
+    private final BigInteger field09;
+    private final int field10;
+    private final String field11;
+    private final long field12;
+    private final double field13;
+    private final boolean field14;
+    private final Integer field15;
+    private final LocalDate field16;
+    private final List<String> field17;
+    private final char field18;
+    private final BigInteger field19;
+    private final int field20;
+    private final String field21;
+    private final long field22;
+    private final double field23;
+    private final boolean field24;
+    private final Integer field25;
+    private final LocalDate field26;
+    private final List<String> field27;
+    private final char field28;
+    private final BigInteger field29;
+    private final int field30;
+    private final String field31;
+    private final long field32;
+    private final double field33;
+    private final boolean field34;
+    private final Integer field35;
+    private final LocalDate field36;
+    private final List<String> field37;
+    private final char field38;
+    private final BigInteger field39;
+    private final int field40;
+    private final String field41;
+    private final long field42;
+    private final double field43;
+    private final boolean field44;
+    private final Integer field45;
+    private final LocalDate field46;
+    private final List<String> field47;
+    private final char field48;
+    private final BigInteger field49;
+
+    public WidePojo(
+            int field00,
+            String field01,
+            long field02,
+            double field03,
+            boolean field04,
+            Integer field05,
+            LocalDate field06,
+            List<String> field07,
+            char field08,
+            BigInteger field09,
+            int field10,
+            String field11,
+            long field12,
+            double field13,
+            boolean field14,
+            Integer field15,
+            LocalDate field16,
+            List<String> field17,
+            char field18,
+            BigInteger field19,
+            int field20,
+            String field21,
+            long field22,
+            double field23,
+            boolean field24,
+            Integer field25,
+            LocalDate field26,
+            List<String> field27,
+            char field28,
+            BigInteger field29,
+            int field30,
+            String field31,
+            long field32,
+            double field33,
+            boolean field34,
+            Integer field35,
+            LocalDate field36,
+            List<String> field37,
+            char field38,
+            BigInteger field39,
+            int field40,
+            String field41,
+            long field42,
+            double field43,
+            boolean field44,
+            Integer field45,
+            LocalDate field46,
+            List<String> field47,
+            char field48,
+            BigInteger field49) {
+        this.field00 = field00;
+        this.field01 = field01;
+        this.field02 = field02;
+        this.field03 = field03;
+        this.field04 = field04;
+        this.field05 = field05;
+        this.field06 = field06;
+        this.field07 = field07;
+        this.field08 = field08;
+        this.field09 = field09;
+        this.field10 = field10;
+        this.field11 = field11;
+        this.field12 = field12;
+        this.field13 = field13;
+        this.field14 = field14;
+        this.field15 = field15;
+        this.field16 = field16;
+        this.field17 = field17;
+        this.field18 = field18;
+        this.field19 = field19;
+        this.field20 = field20;
+        this.field21 = field21;
+        this.field22 = field22;
+        this.field23 = field23;
+        this.field24 = field24;
+        this.field25 = field25;
+        this.field26 = field26;
+        this.field27 = field27;
+        this.field28 = field28;
+        this.field29 = field29;
+        this.field30 = field30;
+        this.field31 = field31;
+        this.field32 = field32;
+        this.field33 = field33;
+        this.field34 = field34;
+        this.field35 = field35;
+        this.field36 = field36;
+        this.field37 = field37;
+        this.field38 = field38;
+        this.field39 = field39;
+        this.field40 = field40;
+        this.field41 = field41;
+        this.field42 = field42;
+        this.field43 = field43;
+        this.field44 = field44;
+        this.field45 = field45;
+        this.field46 = field46;
+        this.field47 = field47;
+        this.field48 = field48;
+        this.field49 = field49;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof WidePojo other)) {
+            return false;
+        }
+        return field00 == other.field00
+                && Objects.equals(field01, other.field01)
+                && field02 == other.field02
+                && Double.compare(field03, other.field03) == 0
+                && field04 == other.field04
+                && Objects.equals(field05, other.field05)
+                && Objects.equals(field06, other.field06)
+                && Objects.equals(field07, other.field07)
+                && field08 == other.field08
+                && Objects.equals(field09, other.field09)
+                && field10 == other.field10
+                && Objects.equals(field11, other.field11)
+                && field12 == other.field12
+                && Double.compare(field13, other.field13) == 0
+                && field14 == other.field14
+                && Objects.equals(field15, other.field15)
+                && Objects.equals(field16, other.field16)
+                && Objects.equals(field17, other.field17)
+                && field18 == other.field18
+                && Objects.equals(field19, other.field19)
+                && field20 == other.field20
+                && Objects.equals(field21, other.field21)
+                && field22 == other.field22
+                && Double.compare(field23, other.field23) == 0
+                && field24 == other.field24
+                && Objects.equals(field25, other.field25)
+                && Objects.equals(field26, other.field26)
+                && Objects.equals(field27, other.field27)
+                && field28 == other.field28
+                && Objects.equals(field29, other.field29)
+                && field30 == other.field30
+                && Objects.equals(field31, other.field31)
+                && field32 == other.field32
+                && Double.compare(field33, other.field33) == 0
+                && field34 == other.field34
+                && Objects.equals(field35, other.field35)
+                && Objects.equals(field36, other.field36)
+                && Objects.equals(field37, other.field37)
+                && field38 == other.field38
+                && Objects.equals(field39, other.field39)
+                && field40 == other.field40
+                && Objects.equals(field41, other.field41)
+                && field42 == other.field42
+                && Double.compare(field43, other.field43) == 0
+                && field44 == other.field44
+                && Objects.equals(field45, other.field45)
+                && Objects.equals(field46, other.field46)
+                && Objects.equals(field47, other.field47)
+                && field48 == other.field48
+                && Objects.equals(field49, other.field49);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects
+                .hash(
+                    field00,
+                    field01,
+                    field02,
+                    field03,
+                    field04,
+                    field05,
+                    field06,
+                    field07,
+                    field08,
+                    field09,
+                    field10,
+                    field11,
+                    field12,
+                    field13,
+                    field14,
+                    field15,
+                    field16,
+                    field17,
+                    field18,
+                    field19,
+                    field20,
+                    field21,
+                    field22,
+                    field23,
+                    field24,
+                    field25,
+                    field26,
+                    field27,
+                    field28,
+                    field29,
+                    field30,
+                    field31,
+                    field32,
+                    field33,
+                    field34,
+                    field35,
+                    field36,
+                    field37,
+                    field38,
+                    field39,
+                    field40,
+                    field41,
+                    field42,
+                    field43,
+                    field44,
+                    field45,
+                    field46,
+                    field47,
+                    field48,
+                    field49);
+    }
+}
@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.benchmarks.types
+
+data class KotlinPerson(val name: String, val age: Int, val nickname: String?, val tags: List<String>)
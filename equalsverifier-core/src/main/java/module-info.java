@@ -17,6 +17,9 @@ module nl.jqno.equalsverifier {
     requires static org.mockito;
     requires static kotlin.reflect;
 
+    // Optional checks
+    requires static jdk.management;
+
     // Built-in prefab values
     requires static java.desktop;
     requires static java.naming;
@@ -0,0 +1,299 @@
+package nl.jqno.equalsverifier;
+
+import java.util.*;
+
+/**
+ * Describes how the cost of {@code equals} and {@code hashCode} grows when the collection, array and {@code String}
+ * fields of a class get larger.
+ *
+ * <p>
+ * Costs are only profiled when {@link Mode#profileCosts()} is set; otherwise, the report is empty. Each entry describes
+ * one method and one field: EqualsVerifier times the method on instances in which that field holds a small value, and
+ * on instances in which it holds a large value, and derives a growth rate from the difference. For {@code hashCode},
+ * that's the cost of hashing the instance. For {@code equals}, it's the cost of comparing two instances that already
+ * differ in a cheap field, such as an {@code int}, so {@code equals} could return false without looking at the large
+ * field at all.
+ *
+ * @since 4.6
+ */
+public final class CostReport {
+
+    private static final CostReport EMPTY = new CostReport(List.of());
+
+    private final List<Entry> entries;
+
+    /**
+     * Constructor.
+     *
+     * @param entries The entries, in the order of the fields of the class.
+     *
+     * @since 4.6
+     */
+    public CostReport(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Returns an empty report, for verifications in which no costs were profiled.
+     *
+     * @return An empty report.
+     *
+     * @since 4.6
+     */
+    public static CostReport empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the entries of the report, in the order of the fields of the class.
+     *
+     * @return The entries of the report.
+     *
+     * @since 4.6
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry for the given method and field, if it exists.
+     *
+     * @param method    Either {@code "equals"} or {@code "hashCode"}.
+     * @param fieldName The name of the field.
+     * @return The entry for the given method and field, if it exists.
+     *
+     * @since 4.6
+     */
+    public Optional<Entry> getEntry(String method, String fieldName) {
+        return entries.stream().filter(e -> e.method.equals(method) && e.fieldName.equals(fieldName)).findFirst();
+    }
+
+    /**
+     * Returns a description of each entry whose cost grows with the size of its field.
+     *
+     * @return A description of each entry whose cost grows with the size of its field; empty if there are none.
+     *
+     * @since 4.6
+     */
+    public List<String> getFindings() {
+        return entries.stream().filter(e -> !e.isConstantTime()).map(Entry::describeFinding).toList();
+    }
+
+    /**
+     * Returns whether the report contains any entries.
+     *
+     * @return Whether the report contains any entries.
+     *
+     * @since 4.6
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        var result = new StringBuilder();
+        for (Entry e : entries) {
+            result.append(e).append('\n');
+        }
+        for (String finding : getFindings()) {
+            result.append("-> ").append(finding).append('\n');
+        }
+        return result.toString().strip();
+    }
+
+    /**
+     * The cost of {@code equals} or {@code hashCode} for a small and a large value of a single field.
+     *
+     * @since 4.6
+     */
+    public static final class Entry {
+
+        /**
+         * The growth rate from which an entry is considered to grow with the size of its field.
+         *
+         * @since 4.6
+         */
+        public static final double GROWTH_RATE_THRESHOLD = 0.5;
+
+        private final String method;
+        private final String fieldName;
+        private final String cheapFieldName;
+        private final int smallSize;
+        private final int largeSize;
+        private final double smallNanos;
+        private final double largeNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param method         Either {@code "equals"} or {@code "hashCode"}.
+         * @param fieldName      The name of the field whose size was varied.
+         * @param cheapFieldName For {@code equals}, the name of the field in which the compared instances differ; for
+         *                           {@code hashCode}, null.
+         * @param smallSize      The number of elements or characters in the small value.
+         * @param largeSize      The number of elements or characters in the large value.
+         * @param smallNanos     The average time of a call with the small value, in nanoseconds.
+         * @param largeNanos     The average time of a call with the large value, in nanoseconds.
+         *
+         * @since 4.6
+         */
+        public Entry(
+                String method,
+                String fieldName,
+                String cheapFieldName,
+                int smallSize,
+                int largeSize,
+                double smallNanos,
+                double largeNanos) {
+            this.method = method;
+            this.fieldName = fieldName;
+            this.cheapFieldName = cheapFieldName;
+            this.smallSize = smallSize;
+            this.largeSize = largeSize;
+            this.smallNanos = smallNanos;
+            this.largeNanos = largeNanos;
+        }
+
+        /**
+         * Returns the method that was timed.
+         *
+         * @return Either {@code "equals"} or {@code "hashCode"}.
+         *
+         * @since 4.6
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * Returns the name of the field whose size was varied.
+         *
+         * @return The name of the field whose size was varied.
+         *
+         * @since 4.6
+         */
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Returns, for {@code equals}, the name of the field in which the compared instances differ.
+         *
+         * @return The name of the field in which the compared instances differ, or empty for {@code hashCode}.
+         *
+         * @since 4.6
+         */
+        public Optional<String> getCheapFieldName() {
+            return Optional.ofNullable(cheapFieldName);
+        }
+
+        /**
+         * Returns the number of elements or characters in the small value.
+         *
+         * @return The number of elements or characters in the small value.
+         *
+         * @since 4.6
+         */
+        public int getSmallSize() {
+            return smallSize;
+        }
+
+        /**
+         * Returns the number of elements or characters in the large value.
+         *
+         * @return The number of elements or characters in the large value.
+         *
+         * @since 4.6
+         */
+        public int getLargeSize() {
+            return largeSize;
+        }
+
+        /**
+         * Returns the average time of a call when the field holds a small value, in nanoseconds.
+         *
+         * @return The average time of a call when the field holds a small value, in nanoseconds.
+         *
+         * @since 4.6
+         */
+        public double getSmallNanos() {
+            return smallNanos;
+        }
+
+        /**
+         * Returns the average time of a call when the field holds a large value, in nanoseconds.
+         *
+         * @return The average time of a call when the field holds a large value, in nanoseconds.
+         *
+         * @since 4.6
+         */
+        public double getLargeNanos() {
+            return largeNanos;
+        }
+
+        /**
+         * Returns how fast the cost grows with the size of the field: 0 means it doesn't grow at all, 1 means it grows
+         * linearly, and 2 means it grows quadratically. Times below a nanosecond are rounded up, so very fast calls
+         * don't cause large growth rates by themselves.
+         *
+         * @return How fast the cost grows with the size of the field.
+         *
+         * @since 4.6
+         */
+        public double getGrowthRate() {
+            double ratio = Math.max(largeNanos, 1.0) / Math.max(smallNanos, 1.0);
+            return Math.log(ratio) / Math.log((double) largeSize / smallSize);
+        }
+
+        /**
+         * Returns whether the cost doesn't grow with the size of the field; that is, whether the growth rate is below
+         * {@link #GROWTH_RATE_THRESHOLD}.
+         *
+         * @return Whether the cost doesn't grow with the size of the field.
+         *
+         * @since 4.6
+         */
+        public boolean isConstantTime() {
+            return getGrowthRate() < GROWTH_RATE_THRESHOLD;
+        }
+
+        private String describeFinding() {
+            if (cheapFieldName == null) {
+                return String
+                        .format(
+                            Locale.ROOT,
+                            "%s takes longer as field %s gets larger (growth rate %.1f).",
+                            method,
+                            fieldName,
+                            getGrowthRate());
+            }
+            return String
+                    .format(
+                        Locale.ROOT,
+                        "%s compares field %s before field %s, even when %s already differs (growth rate %.1f).",
+                        method,
+                        fieldName,
+                        cheapFieldName,
+                        cheapFieldName,
+                        getGrowthRate());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return String
+                    .format(
+                        Locale.ROOT,
+                        "%s/%s: %.0f ns at size %d, %.0f ns at size %d, growth rate %.2f",
+                        method,
+                        fieldName,
+                        smallNanos,
+                        smallSize,
+                        largeNanos,
+                        largeSize,
+                        getGrowthRate());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier;
 
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
+import nl.jqno.equalsverifier.internal.util.ReportFactory;
 
 /**
  * Contains the results of an {@link nl.jqno.equalsverifier.EqualsVerifier} run.
@@ -18,6 +19,12 @@ public final class EqualsVerifierReport {
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final TimingReport timings;
+    private final CostReport costs;
+
+    static {
+        ReportFactory.register(EqualsVerifierReport::withDetails);
+    }
 
     /**
      * Factory method for a successful run of {@code EqualsVerifier}.
@@ -49,10 +56,34 @@ public final class EqualsVerifierReport {
 
     /** Private constructor. Use {@link #success(Class)} or {@link #failure(Class, String, Throwable)} instead. */
     private EqualsVerifierReport(Class<?> type, boolean successful, String message, Throwable cause) {
+        this(type, successful, message, cause, TimingReport.empty(), CostReport.empty());
+    }
+
+    private EqualsVerifierReport(
+            Class<?> type,
+            boolean successful,
+            String message,
+            Throwable cause,
+            TimingReport timings,
+            CostReport costs) {
         this.type = type;
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.timings = timings;
+        this.costs = costs;
+    }
+
+    private static EqualsVerifierReport withDetails(
+            EqualsVerifierReport report,
+            TimingReport newTimings,
+            CostReport newCosts) {
+        return new EqualsVerifierReport(report.type,
+                report.successful,
+                report.message,
+                report.cause,
+                newTimings,
+                newCosts);
     }
 
     /**
@@ -105,4 +136,28 @@ public final class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * Returns a breakdown of the time that was spent on each check.
+     *
+     * @return the timings that were recorded during the run, if {@link Mode#recordTimings()} was set; or an empty
+     *             {@link TimingReport} if it wasn't.
+     *
+     * @since 4.6
+     */
+    public TimingReport getTimings() {
+        return timings;
+    }
+
+    /**
+     * Returns how the cost of {@code equals} and {@code hashCode} grows with the size of the fields of the class.
+     *
+     * @return the costs that were profiled during the run, if {@link Mode#profileCosts()} was set and the run was
+     *             successful; or an empty {@link CostReport} otherwise.
+     *
+     * @since 4.6
+     */
+    public CostReport getCosts() {
+        return costs;
+    }
 }
@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier;
 
 import nl.jqno.equalsverifier.internal.ModeInstance;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
 /**
  * Provides a number of modes that influence how {@code EqualsVerifier} operates.
@@ -31,4 +32,164 @@ public sealed interface Mode permits ModeInstance {
     public static Mode finalMeansFinal() {
         return ModeInstance.FINAL_MEANS_FINAL;
     }
+
+    /**
+     * Signals that EqualsVerifier should record how much time each of its checks takes, and how many instances, values
+     * and dynamic subclasses each check creates. The results are available through
+     * {@link EqualsVerifierReport#getTimings()}.
+     *
+     * <p>
+     * This is useful to find out why the verification of a particular class is slow. Recording the timings adds a
+     * little overhead of its own.
+     *
+     * @return The recordTimings mode.
+     *
+     * @since 4.6
+     */
+    public static Mode recordTimings() {
+        return ModeInstance.RECORD_TIMINGS;
+    }
+
+    /**
+     * Signals that EqualsVerifier may re-use the instances it creates for the checks on individual fields: it creates
+     * each instance once, and for each field, it changes that field, runs the checks, and changes it back.
+     *
+     * <p>
+     * Normally, EqualsVerifier creates new instances for every field it checks, and each new instance gets a value for
+     * every field. For classes with hundreds of fields, such as generated data transfer objects, this means that the
+     * time a verification takes grows quadratically with the number of fields. With this mode, it grows linearly.
+     *
+     * <p>
+     * This mode only has an effect on classes that EqualsVerifier instantiates by writing their fields through
+     * reflection, so not on records, classes that are instantiated through a factory, or classes with a cached
+     * hashCode. Don't use it for classes that cache the result of {@code equals} or {@code hashCode} in a field of
+     * their own, because changing a field in place doesn't reset that cache.
+     *
+     * @return The mutateInPlace mode.
+     *
+     * @since 4.6
+     */
+    public static Mode mutateInPlace() {
+        return ModeInstance.MUTATE_IN_PLACE;
+    }
+
+    /**
+     * Signals that EqualsVerifier may check the fields of a class in parallel, using the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * <p>
+     * This speeds up the verification of classes with many fields, which can take much longer than the verification of
+     * other classes, even when several classes are verified in parallel. Each thread creates its own instances, so
+     * prefab values and factories that were given to EqualsVerifier must be thread-safe. If several fields have a
+     * problem, EqualsVerifier still reports the same problem that it would report without this mode.
+     *
+     * @return The parallelFieldChecks mode.
+     *
+     * @since 4.6
+     */
+    public static Mode parallelFieldChecks() {
+        return ModeInstance.PARALLEL_FIELD_CHECKS;
+    }
+
+    /**
+     * Signals that EqualsVerifier should profile how the cost of {@code equals} and {@code hashCode} grows when the
+     * collection, array and {@code String} fields of the class get larger. The results are available through
+     * {@link EqualsVerifierReport#getCosts()}.
+     *
+     * <p>
+     * This is useful to find {@code hashCode} methods that iterate over large collections, and {@code equals} methods
+     * that compare an expensive field before a cheap field that already differs. Profiling doesn't make the
+     * verification fail; use {@link CostReport#getFindings()} to see what it found. It adds noticeably to the time that
+     * a verification takes.
+     *
+     * @return The profileCosts mode.
+     *
+     * @since 4.6
+     */
+    public static Mode profileCosts() {
+        return ModeInstance.PROFILE_COSTS;
+    }
+
+    /**
+     * Signals that EqualsVerifier should check whether {@code hashCode} spreads instances well, in addition to checking
+     * that it agrees with {@code equals}. Fails if more than 1% of the generated instances share their hash code with
+     * another instance.
+     *
+     * <p>
+     * See {@link #checkHashCodeDistribution(double)} for details.
+     *
+     * @return The checkHashCodeDistribution mode.
+     *
+     * @since 4.6
+     */
+    public static Mode checkHashCodeDistribution() {
+        return checkHashCodeDistribution(0.01);
+    }
+
+    /**
+     * Signals that EqualsVerifier should check whether {@code hashCode} spreads instances well, in addition to checking
+     * that it agrees with {@code equals}.
+     *
+     * <p>
+     * EqualsVerifier creates a few thousand distinct instances by varying the fields that {@code equals} uses, and
+     * fails if too many of them share their hash code with another instance, if they end up in too few buckets of a
+     * {@code HashMap}, or if changing a field that {@code equals} uses hardly ever changes the hash code. The error
+     * message lists the fields that barely affect the hash code. Such fields are not reported if
+     * {@link Warning#STRICT_HASHCODE} is suppressed.
+     *
+     * <p>
+     * This check is off by default, because a {@code hashCode} that meets the contract can still be slow in a
+     * {@code HashMap}, and because it creates many more instances than the other checks.
+     *
+     * @param maxCollisionRate The fraction of instances, between 0 and 1, that may share their hash code with another
+     *                             instance.
+     * @return The checkHashCodeDistribution mode.
+     *
+     * @since 4.6
+     */
+    public static Mode checkHashCodeDistribution(double maxCollisionRate) {
+        Validations.validateFraction(maxCollisionRate, "maxCollisionRate");
+        return ModeInstance.checkHashCodeDistribution(maxCollisionRate);
+    }
+
+    /**
+     * Signals that EqualsVerifier should check that {@code equals} and {@code hashCode} don't allocate any memory.
+     *
+     * <p>
+     * See {@link #checkAllocations(long)} for details.
+     *
+     * @return The checkAllocations mode.
+     *
+     * @since 4.6
+     */
+    public static Mode checkAllocations() {
+        return checkAllocations(0);
+    }
+
+    /**
+     * Signals that EqualsVerifier should check how much memory {@code equals} and {@code hashCode} allocate.
+     *
+     * <p>
+     * EqualsVerifier calls both methods many times on the instances it has already created, and fails if either of them
+     * allocates more than the given number of bytes per call, on average. Common culprits are
+     * {@code Objects.hash(...)}, which puts its arguments in an array, and streams or {@code String.format(...)} inside
+     * {@code equals}. Since the methods are called enough times for the JIT to compile them, allocations that the JIT
+     * can optimize away don't count.
+     *
+     * <p>
+     * This check is off by default, because it's only relevant for classes that are used in latency-sensitive code, and
+     * because it calls {@code equals} and {@code hashCode} many more times than the other checks. It needs a JVM that
+     * supports {@code com.sun.management.ThreadMXBean}; on the module path, that means the {@code jdk.management}
+     * module must be resolved. The check can be disabled for individual classes by suppressing
+     * {@link Warning#ALLOCATIONS}.
+     *
+     * @param maxBytesPerCall The number of bytes that {@code equals} and {@code hashCode} may allocate per call.
+     * @return The checkAllocations mode.
+     *
+     * @since 4.6
+     */
+    public static Mode checkAllocations(long maxBytesPerCall) {
+        Validations.validateNotNegative(maxBytesPerCall, "maxBytesPerCall");
+        return ModeInstance.checkAllocations(maxBytesPerCall);
+    }
 }
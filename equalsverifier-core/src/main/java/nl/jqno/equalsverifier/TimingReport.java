@@ -0,0 +1,249 @@
+package nl.jqno.equalsverifier;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Contains a breakdown of the time that EqualsVerifier spent on each part of a verification.
+ *
+ * <p>
+ * Timings are only recorded when {@link Mode#recordTimings()} is set; otherwise, the report is empty. Each entry
+ * represents a checker, or a check that is run by a checker. The names of nested entries are prefixed by the name of
+ * the entry that contains them, separated by a slash; for instance, {@code FieldsChecker/ReflexivityFieldCheck}. The
+ * numbers of an entry include the numbers of the entries nested inside it.
+ *
+ * @since 4.6
+ */
+public final class TimingReport {
+
+    private static final TimingReport EMPTY = new TimingReport(List.of(), Duration.ZERO);
+
+    private final List<Entry> entries;
+    private final Duration totalDuration;
+
+    /**
+     * Constructor.
+     *
+     * @param entries       The entries, in the order in which they were started.
+     * @param totalDuration The total duration of the verification.
+     *
+     * @since 4.6
+     */
+    public TimingReport(List<Entry> entries, Duration totalDuration) {
+        this.entries = List.copyOf(entries);
+        this.totalDuration = totalDuration;
+    }
+
+    /**
+     * Returns an empty report, for verifications in which no timings were recorded.
+     *
+     * @return An empty report.
+     *
+     * @since 4.6
+     */
+    public static TimingReport empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Combines the timings of several verifications into a single report, by adding up the numbers of all entries with
+     * the same name. This is useful to find out which checks are slowest across a whole package.
+     *
+     * @param reports The reports of the verifications.
+     * @return A report that contains the sum of the timings of all given reports.
+     *
+     * @since 4.6
+     */
+    public static TimingReport aggregate(Collection<EqualsVerifierReport> reports) {
+        var sums = new LinkedHashMap<String, Entry>();
+        Duration total = Duration.ZERO;
+        for (EqualsVerifierReport report : reports) {
+            TimingReport timings = report.getTimings();
+            total = total.plus(timings.totalDuration);
+            for (Entry e : timings.entries) {
+                sums.merge(e.name, e, Entry::plus);
+            }
+        }
+        return new TimingReport(new ArrayList<>(sums.values()), total);
+    }
+
+    /**
+     * Returns the entries of the report, in the order in which they were started.
+     *
+     * @return The entries of the report.
+     *
+     * @since 4.6
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry with the given name, if it exists.
+     *
+     * @param name The name of the entry; for instance, {@code NullChecker}.
+     * @return The entry with the given name, if it exists.
+     *
+     * @since 4.6
+     */
+    public Optional<Entry> getEntry(String name) {
+        return entries.stream().filter(e -> e.name.equals(name)).findFirst();
+    }
+
+    /**
+     * Returns the total duration of the verification, including the parts that aren't covered by any entry.
+     *
+     * @return The total duration of the verification.
+     *
+     * @since 4.6
+     */
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * Returns whether the report contains any entries.
+     *
+     * @return Whether the report contains any entries.
+     *
+     * @since 4.6
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        var result = new StringBuilder("Total: ").append(totalDuration.toMillis()).append(" ms");
+        for (Entry e : entries) {
+            result.append('\n').append(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * The timings of a single part of a verification.
+     *
+     * @since 4.6
+     */
+    public static final class Entry {
+
+        private final String name;
+        private final Duration duration;
+        private final long instancesCreated;
+        private final long valuesProvided;
+        private final long dynamicSubclassesGenerated;
+        private final long mockitoFallbacks;
+
+        /**
+         * Constructor.
+         *
+         * @param name                       The name of the part of the verification.
+         * @param duration                   The wall-clock time spent on it.
+         * @param instancesCreated           The number of objects that were instantiated.
+         * @param valuesProvided             The number of prefab values that were provided.
+         * @param dynamicSubclassesGenerated The number of subclasses that were generated at runtime.
+         * @param mockitoFallbacks           The number of values that had to be provided by Mockito.
+         *
+         * @since 4.6
+         */
+        public Entry(
+                String name,
+                Duration duration,
+                long instancesCreated,
+                long valuesProvided,
+                long dynamicSubclassesGenerated,
+                long mockitoFallbacks) {
+            this.name = name;
+            this.duration = duration;
+            this.instancesCreated = instancesCreated;
+            this.valuesProvided = valuesProvided;
+            this.dynamicSubclassesGenerated = dynamicSubclassesGenerated;
+            this.mockitoFallbacks = mockitoFallbacks;
+        }
+
+        /**
+         * Returns the name of the part of the verification.
+         *
+         * @return The name of the part of the verification.
+         *
+         * @since 4.6
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the wall-clock time spent on this part of the verification.
+         *
+         * @return The wall-clock time spent on this part of the verification.
+         *
+         * @since 4.6
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the number of objects that were instantiated in this part of the verification.
+         *
+         * @return The number of objects that were instantiated.
+         *
+         * @since 4.6
+         */
+        public long getInstancesCreated() {
+            return instancesCreated;
+        }
+
+        /**
+         * Returns the number of prefab values that were provided in this part of the verification.
+         *
+         * @return The number of prefab values that were provided.
+         *
+         * @since 4.6
+         */
+        public long getValuesProvided() {
+            return valuesProvided;
+        }
+
+        /**
+         * Returns the number of subclasses that were generated at runtime in this part of the verification.
+         *
+         * @return The number of subclasses that were generated at runtime.
+         *
+         * @since 4.6
+         */
+        public long getDynamicSubclassesGenerated() {
+            return dynamicSubclassesGenerated;
+        }
+
+        /**
+         * Returns the number of values in this part of the verification that no other means could provide, so they had
+         * to be provided by Mockito. If this number is high, consider adding prefab values for the types involved.
+         *
+         * @return The number of values that had to be provided by Mockito.
+         *
+         * @since 4.6
+         */
+        public long getMockitoFallbacks() {
+            return mockitoFallbacks;
+        }
+
+        private Entry plus(Entry other) {
+            return new Entry(name,
+                    duration.plus(other.duration),
+                    instancesCreated + other.instancesCreated,
+                    valuesProvided + other.valuesProvided,
+                    dynamicSubclassesGenerated + other.dynamicSubclassesGenerated,
+                    mockitoFallbacks + other.mockitoFallbacks);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return name + ": " + duration.toMillis() + " ms, " + instancesCreated + " instances, " + valuesProvided
+                    + " values, " + dynamicSubclassesGenerated + " subclasses, " + mockitoFallbacks + " mocks";
+        }
+    }
+}
@@ -272,4 +272,16 @@ public enum Warning {
      * @since 4.5
      */
     URL_EQUALITY,
+
+    /**
+     * Disables the check that {@code equals} and {@code hashCode} don't allocate more memory than allowed.
+     *
+     * <p>
+     * This check only runs when it's enabled with {@link Mode#checkAllocations()}. Suppress this warning to exempt
+     * individual classes, for instance when the mode is set on {@code EqualsVerifier.configure()} or on
+     * {@code forPackage(...)}, and some of the classes aren't used in latency-sensitive code.
+     *
+     * @since 4.6
+     */
+    ALLOCATIONS,
 }
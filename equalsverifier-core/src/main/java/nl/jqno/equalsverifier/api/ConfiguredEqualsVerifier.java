@@ -10,9 +10,13 @@ import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.PrefabValuesApi;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanOptions;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import nl.jqno.equalsverifier.internal.util.ExternalLibs;
 import nl.jqno.equalsverifier.internal.util.FieldToPrefabValues;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.IncrementalState;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
 import nl.jqno.equalsverifier.internal.util.Validations;
+import nl.jqno.equalsverifier.internal.valueproviders.SharedValueCache;
 import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
@@ -30,6 +34,8 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     private boolean usingGetClass;
     private Function<String, String> fieldnameToGetter;
     private final Objenesis objenesis = new ObjenesisStd();
+    private SharedValueCache sharedValues = new SharedValueCache();
+    private int sharedValuesPrefabsVersion;
 
     /**
      * Constructor.
@@ -52,6 +58,7 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
         this.userPrefabs = userPrefabs;
         this.usingGetClass = usingGetClass;
         this.fieldnameToGetter = fieldnameToGetter;
+        this.sharedValuesPrefabsVersion = userPrefabs.version();
     }
 
     /**
@@ -160,7 +167,42 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
                 userPrefabs.copy(),
                 objenesis,
                 usingGetClass,
-                fieldnameToGetter);
+                fieldnameToGetter,
+                sharedValues());
+    }
+
+    private SharedValueCache sharedValues() {
+        // Generated values may contain prefab values, so they can't be shared with verifiers that have other prefabs.
+        int version = userPrefabs.version();
+        if (version != sharedValuesPrefabsVersion) {
+            sharedValues = new SharedValueCache();
+            sharedValuesPrefabsVersion = version;
+        }
+        return sharedValues;
+    }
+
+    /**
+     * Describes the configuration, so that {@link IncrementalState} can tell whether it changed between runs.
+     *
+     * <p>
+     * Prefab values and the fieldname-to-getter converter can't be compared between runs, so a configuration that has
+     * any of them can't be described.
+     *
+     * @return A description of the configuration, or {@code null} if it contains prefab values or a converter.
+     */
+    String describe() {
+        if (!userPrefabs.getRegisteredTypeNames().isEmpty() || fieldnameToGetter != null) {
+            return null;
+        }
+        return Formatter
+                .of(
+                    "warnings=%%; modes=%%; getClass=%%; jdk=%%; mockito=%%",
+                    new TreeSet<>(warningsToSuppress.stream().map(Warning::name).toList()),
+                    new TreeSet<>(modesToSet.stream().map(Mode::toString).toList()),
+                    usingGetClass,
+                    System.getProperty("java.version"),
+                    ExternalLibs.isMockitoAvailable())
+                .format();
     }
 
     /**
@@ -1,7 +1,12 @@
 package nl.jqno.equalsverifier.api;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -11,6 +16,8 @@ import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.util.ErrorMessage;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.IncrementalState;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test for several types at once with a fluent API.
@@ -21,6 +28,8 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
 
     private final List<Class<?>> types;
     private final ConfiguredEqualsVerifier ev;
+    private Executor executor = null;
+    private Path stateFile = null;
 
     /**
      * Constructor.
@@ -118,6 +127,72 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Signals that the types should be verified in parallel, using the common {@link ForkJoinPool}.
+     *
+     * <p>
+     * The results are still reported in the order in which the types were given.
+     *
+     * @return {@code this}, for easy method chaining.
+     *
+     * @since 4.6
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signals that the types should be verified in parallel, using the given {@link Executor}. This can be a fork-join
+     * pool, or an executor that runs each task on a virtual thread.
+     *
+     * <p>
+     * The results are still reported in the order in which the types were given.
+     *
+     * <p>
+     * Note that prefab values and factories that were given to EqualsVerifier may be used by several threads at the
+     * same time, so they must be thread-safe.
+     *
+     * @param parallelExecutor The executor on which the types will be verified.
+     * @return {@code this}, for easy method chaining.
+     *
+     * @since 4.6
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi parallel(Executor parallelExecutor) {
+        Validations.validateNotNull(parallelExecutor, "executor is null.");
+        this.executor = parallelExecutor;
+        return this;
+    }
+
+    /**
+     * Signals that classes that were verified successfully in a previous run should be skipped, if they haven't changed
+     * since.
+     *
+     * <p>
+     * EqualsVerifier remembers which classes were verified successfully in the given file. A class is considered
+     * unchanged if its bytecode, the bytecode of its supertypes, of the classes it's nested in, of its package's
+     * {@code package-info} and of its permitted subclasses, the same for the types of its fields, and the configuration
+     * of this verifier are all the same as in the previous run. Several tests can share the same file, but not at the
+     * same time.
+     *
+     * <p>
+     * EqualsVerifier can't tell whether prefab values or a fieldname-to-getter converter have changed since the
+     * previous run. If any of them are configured, no classes are skipped and the file isn't used.
+     *
+     * @param incrementalStateFile The file in which EqualsVerifier stores which classes were verified successfully; for
+     *                                 instance, {@code target/equalsverifier-state.properties}.
+     * @return {@code this}, for easy method chaining.
+     *
+     * @since 4.6
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi incremental(Path incrementalStateFile) {
+        Validations.validateNotNull(incrementalStateFile, "stateFile is null.");
+        this.stateFile = incrementalStateFile;
+        return this;
+    }
+
     /**
      * Performs the verification of the contracts for {@code equals} and {@code hashCode} and throws an
      * {@link AssertionError} if there is a problem.
@@ -148,12 +223,43 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      * Performs the verifications of the contracts for {@code equals} and {@code hashCode} and returns a List of
      * {@link EqualsVerifierReport} with the results of the verifications.
      *
+     * <p>
+     * If {@link Mode#recordTimings()} is set, the timings of all reports can be added up with
+     * {@link TimingReport#aggregate(java.util.Collection)}.
+     *
      * @return A List of {@link EqualsVerifierReport} that indicates whether the contracts are met and whether
      *             {@link EqualsVerifier}'s preconditions hold.
      *
      * @since 3.0
      */
     public List<EqualsVerifierReport> report() {
-        return types.stream().map(t -> ev.forClass(t).report(false)).toList();
+        String configuration = stateFile == null ? null : ev.describe();
+        if (configuration == null) {
+            return report(types);
+        }
+
+        var state = IncrementalState.load(stateFile, configuration);
+        var changed = types.stream().filter(t -> !state.isUnchanged(t)).toList();
+        var reports = report(changed);
+        state.update(reports);
+        state.save();
+
+        var byType = new HashMap<Class<?>, EqualsVerifierReport>();
+        reports.forEach(r -> byType.put(r.getType(), r));
+        return types.stream().map(t -> byType.getOrDefault(t, EqualsVerifierReport.success(t))).toList();
+    }
+
+    private List<EqualsVerifierReport> report(List<Class<?>> typesToVerify) {
+        if (executor == null) {
+            return typesToVerify.stream().map(t -> ev.forClass(t).report(false)).toList();
+        }
+
+        // Each verifier is configured on the calling thread, so the workers don't share the configuration
+        var futures = typesToVerify
+                .stream()
+                .map(t -> ev.forClass(t))
+                .map(api -> CompletableFuture.supplyAsync(() -> api.report(false), executor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
     }
 }
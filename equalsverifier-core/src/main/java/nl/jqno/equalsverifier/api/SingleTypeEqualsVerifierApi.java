@@ -15,6 +15,7 @@ import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinProbe;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
 import nl.jqno.equalsverifier.internal.util.*;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.valueproviders.SharedValueCache;
 import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
@@ -51,6 +52,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     private List<T> equalExamples = new ArrayList<>();
     private List<T> unequalExamples = new ArrayList<>();
     private final Objenesis objenesis;
+    private SharedValueCache sharedValues = null;
+    private int sharedValuesPrefabsVersion = 0;
 
     /**
      * Constructor.
@@ -86,6 +89,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      * @param usingGetClass      Whether {@code getClass} is used in the implementation of the {@code equals} method,
      *                               instead of an {@code instanceof} check.
      * @param converter          A function that converts from field name to getter name.
+     * @param sharedValues       Generated values of immutable types, shared with other verifiers that have the same
+     *                               prefab values.
      */
     // CHECKSTYLE OFF: ParameterNumber
     /* package protected */ SingleTypeEqualsVerifierApi(
@@ -95,13 +100,16 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             UserPrefabValueCaches userPrefabs,
             Objenesis objenesis,
             boolean usingGetClass,
-            Function<String, String> converter) {
+            Function<String, String> converter,
+            SharedValueCache sharedValues) {
         this(type, objenesis);
         this.warningsToSuppress = EnumSet.copyOf(warningsToSuppress);
         this.modesToSet = new HashSet<>(modes);
         this.userPrefabs = userPrefabs;
         this.usingGetClass = usingGetClass;
         this.fieldnameToGetter = converter;
+        this.sharedValues = sharedValues;
+        this.sharedValuesPrefabsVersion = userPrefabs.version();
     }
     // CHECKSTYLE ON: ParameterNumber
 
@@ -558,16 +566,20 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      * @since 3.2
      */
     public EqualsVerifierReport report(boolean showUrl) {
+        var recorder = TimingRecorder.start(modesToSet.contains(Mode.recordTimings()));
+        EqualsVerifierReport result;
+        CostReport costs = CostReport.empty();
         try {
-            performVerification();
-            return EqualsVerifierReport.success(type);
+            costs = performVerification();
+            result = EqualsVerifierReport.success(type);
         }
         catch (MessagingException e) {
-            return EqualsVerifierReport.failure(type, buildErrorMessage(e.getDescription(), showUrl), e);
+            result = EqualsVerifierReport.failure(type, buildErrorMessage(e.getDescription(), showUrl), e);
         }
         catch (Throwable e) {
-            return EqualsVerifierReport.failure(type, buildErrorMessage(e.getMessage(), showUrl), e);
+            result = EqualsVerifierReport.failure(type, buildErrorMessage(e.getMessage(), showUrl), e);
         }
+        return ReportFactory.withDetails(result, recorder.stop(), costs);
     }
 
     private String buildErrorMessage(String description, boolean showUrl) {
@@ -581,14 +593,14 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return result;
     }
 
-    private void performVerification() {
+    private CostReport performVerification() {
         if (type.isEnum() || type.isInterface()) {
-            return;
+            return CostReport.empty();
         }
         Validations.validateClassCanBeVerified(type);
 
-        Configuration<T> config = buildConfig();
-        var context = new Context<T>(config, userPrefabs, fieldCache, objenesis);
+        Configuration<T> config = TimingRecorder.measure("Configuration", this::buildConfig);
+        var context = new Context<T>(config, userPrefabs, fieldCache, objenesis, sharedValuesIfUnchanged());
         Validations
                 .validateProcessedAnnotations(
                     type,
@@ -598,7 +610,13 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
                     allExcludedFields);
 
         verifyWithoutExamples(context);
-        verifyWithExamples(context);
+        return verifyWithExamples(context);
+    }
+
+    private SharedValueCache sharedValuesIfUnchanged() {
+        // If prefab values were added to this verifier, its values differ from those of the verifier it came from.
+        boolean unchanged = userPrefabs.version() == sharedValuesPrefabsVersion && fieldCache.getFieldNames().isEmpty();
+        return unchanged ? sharedValues : null;
     }
 
     private Configuration<T> buildConfig() {
@@ -632,16 +650,19 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
                 new NullChecker<>(context), new CachedHashCodeChecker<>(config) };
 
         for (Checker checker : checkers) {
-            checker.check();
+            TimingRecorder.measure(checker.getClass().getSimpleName(), checker::check);
         }
     }
 
-    private void verifyWithExamples(Context<T> context) {
+    private CostReport verifyWithExamples(Context<T> context) {
+        var costProfiler = new CostProfiler<>(context);
         Checker[] checkers = { new ExamplesChecker<>(context), new HierarchyChecker<>(context),
-                new FieldsChecker<>(context), new MapEntryHashCodeRequirementChecker<>(context) };
+                new FieldsChecker<>(context), new MapEntryHashCodeRequirementChecker<>(context),
+                new HashCodeDistributionChecker<>(context), new AllocationChecker<>(context), costProfiler };
 
         for (Checker checker : checkers) {
-            checker.check();
+            TimingRecorder.measure(checker.getClass().getSimpleName(), checker::check);
         }
+        return costProfiler.getReport();
     }
 }
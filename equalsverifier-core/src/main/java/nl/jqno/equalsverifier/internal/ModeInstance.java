@@ -1,11 +1,87 @@
 package nl.jqno.equalsverifier.internal;
 
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import nl.jqno.equalsverifier.Mode;
 
 public final class ModeInstance implements Mode {
 
-    private ModeInstance() {}
+    public static final Mode SKIP_MOCKITO = new ModeInstance("skipMockito");
+    public static final Mode FINAL_MEANS_FINAL = new ModeInstance("finalMeansFinal");
+    public static final Mode RECORD_TIMINGS = new ModeInstance("recordTimings");
+    public static final Mode PROFILE_COSTS = new ModeInstance("profileCosts");
+    public static final Mode MUTATE_IN_PLACE = new ModeInstance("mutateInPlace");
+    public static final Mode PARALLEL_FIELD_CHECKS = new ModeInstance("parallelFieldChecks");
+
+    private static final String CHECK_HASH_CODE_DISTRIBUTION = "checkHashCodeDistribution";
+    private static final String CHECK_ALLOCATIONS = "checkAllocations";
+
+    private final String name;
+    private final Number parameter;
+
+    private ModeInstance(String name) {
+        this(name, null);
+    }
+
+    private ModeInstance(String name, Number parameter) {
+        this.name = name;
+        this.parameter = parameter;
+    }
+
+    public static Mode checkHashCodeDistribution(double maxCollisionRate) {
+        return new ModeInstance(CHECK_HASH_CODE_DISTRIBUTION, maxCollisionRate);
+    }
+
+    public static Mode checkAllocations(long maxBytesPerCall) {
+        return new ModeInstance(CHECK_ALLOCATIONS, maxBytesPerCall);
+    }
+
+    /**
+     * Returns the maximum collision rate of the strictest checkHashCodeDistribution mode in the given set, if any.
+     *
+     * @param modes The modes to search.
+     * @return The maximum collision rate, or an empty OptionalDouble if the mode isn't set.
+     */
+    public static OptionalDouble maxCollisionRate(Set<Mode> modes) {
+        return parameters(modes, CHECK_HASH_CODE_DISTRIBUTION).mapToDouble(Number::doubleValue).min();
+    }
+
+    /**
+     * Returns the allocation budget of the strictest checkAllocations mode in the given set, if any.
+     *
+     * @param modes The modes to search.
+     * @return The number of bytes that equals and hashCode may allocate per call, or an empty OptionalLong if the mode
+     *             isn't set.
+     */
+    public static OptionalLong maxAllocatedBytes(Set<Mode> modes) {
+        return parameters(modes, CHECK_ALLOCATIONS).mapToLong(Number::longValue).min();
+    }
+
+    private static Stream<Number> parameters(Set<Mode> modes, String modeName) {
+        return modes
+                .stream()
+                .filter(m -> m instanceof ModeInstance mi && mi.name.equals(modeName))
+                .map(m -> ((ModeInstance) m).parameter);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ModeInstance other
+                && name.equals(other.name)
+                && Objects.equals(parameter, other.parameter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, parameter);
+    }
 
-    public static final Mode SKIP_MOCKITO = new ModeInstance();
-    public static final Mode FINAL_MEANS_FINAL = new ModeInstance();
+    @Override
+    public String toString() {
+        return parameter == null ? name : name + "(" + parameter + ")";
+    }
 }
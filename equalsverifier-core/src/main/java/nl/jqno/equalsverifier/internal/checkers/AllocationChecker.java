@@ -0,0 +1,181 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.ModeInstance;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
+
+/**
+ * Checks how much memory {@code equals} and {@code hashCode} allocate, when
+ * {@link ModeInstance#maxAllocatedBytes(java.util.Set)} is set.
+ *
+ * <p>
+ * Calls both methods on the instances that the other checks use, first often enough for the JIT to compile them, and
+ * then while measuring how many bytes the current thread allocates.
+ */
+public class AllocationChecker<T> implements Checker {
+
+    public static final String ERROR_DOC_TITLE = "Allocations";
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 20_000;
+
+    private final Configuration<T> config;
+    private final SubjectCreator<T> subjectCreator;
+
+    // Keeps the JIT from optimizing away calls whose results are never used.
+    private int sink;
+
+    public AllocationChecker(Context<T> context) {
+        this.config = context.getConfiguration();
+        this.subjectCreator = context.getSubjectCreator();
+    }
+
+    @Override
+    public void check() {
+        OptionalLong maxBytesPerCall = ModeInstance.maxAllocatedBytes(config.modes());
+        if (maxBytesPerCall.isEmpty() || config.warningsToSuppress().contains(Warning.ALLOCATIONS)) {
+            return;
+        }
+
+        AllocationMeter meter = AllocationMeter.forCurrentThread();
+        if (meter == null) {
+            fail(
+                Formatter
+                        .of(
+                            "%%: can't measure allocations, because this JVM doesn't support"
+                                    + " com.sun.management.ThreadMXBean.\nOn the module path, add the jdk.management"
+                                    + " module with --add-modules jdk.management, or suppress Warning.%% to disable"
+                                    + " this check.",
+                            ERROR_DOC_TITLE,
+                            Warning.ALLOCATIONS));
+            return;
+        }
+
+        // An array rather than a list, so iterating over it doesn't allocate anything itself.
+        Object[] others = others().toArray();
+        T reference = subjectCreator.plain();
+        long equalsBytes;
+        long hashCodeBytes;
+        try {
+            equalsBytes = measure(meter, () -> measureEquals(reference, others), others.length);
+            hashCodeBytes = measure(meter, () -> measureHashCode(reference, others), others.length + 1);
+        }
+        finally {
+            meter.close();
+        }
+
+        long max = maxBytesPerCall.getAsLong();
+        assertWithinBudget("equals", equalsBytes, max);
+        assertWithinBudget("hashCode", hashCodeBytes, max);
+    }
+
+    private List<T> others() {
+        var result = new ArrayList<T>();
+        result.add(subjectCreator.plain());
+        for (FieldProbe p : FieldIterable.ofIgnoringStatic(config.type())) {
+            if (!config.ignoredFields().contains(p.getName())) {
+                result.add(subjectCreator.withFieldChanged(p.getField()));
+            }
+        }
+        return result;
+    }
+
+    private long measure(AllocationMeter meter, Runnable round, int callsPerRound) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long before = meter.allocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        long after = meter.allocatedBytes();
+        return (after - before) / ((long) MEASURED_ROUNDS * callsPerRound);
+    }
+
+    private void measureEquals(T reference, Object[] others) {
+        int result = sink;
+        for (Object other : others) {
+            result += reference.equals(other) ? 1 : 0;
+        }
+        sink = result;
+    }
+
+    private void measureHashCode(T reference, Object[] others) {
+        int result = sink + reference.hashCode();
+        for (Object other : others) {
+            result += other.hashCode();
+        }
+        sink = result;
+    }
+
+    private void assertWithinBudget(String method, long bytesPerCall, long max) {
+        if (bytesPerCall > max) {
+            fail(
+                Formatter
+                        .of(
+                            "%%: %%.%% allocates %% bytes per call on average, but may allocate at most %%.\nCommon"
+                                    + " causes are Objects.hash(...), which puts its arguments in an array, streams,"
+                                    + " and String.format(...) or string concatenation.\nSuppress Warning.%% to"
+                                    + " disable this check.",
+                            ERROR_DOC_TITLE,
+                            config.type().getSimpleName(),
+                            method,
+                            bytesPerCall,
+                            max,
+                            Warning.ALLOCATIONS));
+        }
+    }
+
+    /**
+     * Wraps {@code com.sun.management.ThreadMXBean}, which is not available on every JVM, and on the module path only
+     * if the {@code jdk.management} module is resolved.
+     *
+     * <p>
+     * Measuring allocations must be enabled JVM-wide, so the meter enables it, and {@link #close()} restores the
+     * setting it found.
+     */
+    private static final class AllocationMeter {
+        private final com.sun.management.ThreadMXBean bean;
+        private final boolean wasEnabled;
+
+        private AllocationMeter(com.sun.management.ThreadMXBean bean, boolean wasEnabled) {
+            this.bean = bean;
+            this.wasEnabled = wasEnabled;
+        }
+
+        static AllocationMeter forCurrentThread() {
+            try {
+                if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                        && bean.isThreadAllocatedMemorySupported()) {
+                    boolean wasEnabled = bean.isThreadAllocatedMemoryEnabled();
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                    return new AllocationMeter(bean, wasEnabled);
+                }
+            }
+            catch (LinkageError | UnsupportedOperationException e) {
+                // Fall through: this JVM can't measure allocations.
+            }
+            return null;
+        }
+
+        long allocatedBytes() {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+
+        void close() {
+            bean.setThreadAllocatedMemoryEnabled(wasEnabled);
+        }
+    }
+}
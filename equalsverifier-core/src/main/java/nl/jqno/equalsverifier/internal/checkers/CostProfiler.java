@@ -0,0 +1,229 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.valueproviders.InstantiationUtil;
+import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
+
+/**
+ * Times {@code equals} and {@code hashCode} while it scales up the collection, array and {@code String} fields of the
+ * class, when {@link Mode#profileCosts()} is set, and collects the results in a {@link CostReport}.
+ *
+ * <p>
+ * The large values are built from the values that the prefab value suppliers provide for each field: a list gets copies
+ * of its element, an array gets copies of its first element, and sets and maps of strings or integers get distinct
+ * elements. Fields of other types keep their usual values.
+ */
+public class CostProfiler<T> implements Checker {
+
+    // Both sizes are large enough that the work that depends on the size outweighs the fixed cost of a call.
+    private static final int SMALL_SIZE = 1_024;
+    private static final int LARGE_SIZE = 8_192;
+    private static final int CALLS_PER_BATCH = 100;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private final Configuration<T> config;
+    private final SubjectCreator<T> subjectCreator;
+    private final LongSupplier clock;
+    private CostReport report = CostReport.empty();
+
+    // Keeps the JIT from optimizing away calls whose results are never used.
+    private int sink;
+
+    public CostProfiler(Context<T> context) {
+        this(context, System::nanoTime);
+    }
+
+    /**
+     * Constructor with a clock other than {@link System#nanoTime()}, so tests don't depend on real timings.
+     *
+     * @param context The context of the verification.
+     * @param clock   Returns the current time in nanoseconds, or in any other unit.
+     */
+    CostProfiler(Context<T> context, LongSupplier clock) {
+        this.config = context.getConfiguration();
+        this.subjectCreator = context.getSubjectCreator();
+        this.clock = clock;
+    }
+
+    @Override
+    public void check() {
+        if (!config.modes().contains(Mode.profileCosts())) {
+            return;
+        }
+
+        var scalable = new ArrayList<Field>();
+        var cheap = new ArrayList<Field>();
+        for (FieldProbe p : FieldIterable.ofIgnoringStatic(config.type())) {
+            if (!config.ignoredFields().contains(p.getName())) {
+                (scale(p.getField(), SMALL_SIZE) == null ? cheap : scalable).add(p.getField());
+            }
+        }
+
+        Field discriminator = findDiscriminator(cheap);
+        var entries = new ArrayList<CostReport.Entry>();
+        for (Field f : scalable) {
+            try {
+                entries.add(profileHashCode(f));
+                if (discriminator != null) {
+                    entries.add(profileEquals(f, discriminator));
+                }
+            }
+            catch (RuntimeException e) {
+                // The class doesn't accept a value of this size; we can't say anything about this field.
+            }
+        }
+        report = new CostReport(entries);
+    }
+
+    /**
+     * Returns the report of the profiled costs.
+     *
+     * @return The report, or an empty report if {@link Mode#profileCosts()} isn't set.
+     */
+    public CostReport getReport() {
+        return report;
+    }
+
+    private Field findDiscriminator(List<Field> candidates) {
+        T plain = subjectCreator.plain();
+        for (Field f : candidates) {
+            if (!plain.equals(subjectCreator.withFieldChanged(f))) {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    private CostReport.Entry profileHashCode(Field field) {
+        IntFunction<IntSupplier> call = size -> {
+            T instance = subjectCreator.withFieldsSetTo(Map.of(field, scale(field, size)));
+            return instance::hashCode;
+        };
+        return measure("hashCode", field, null, call);
+    }
+
+    private CostReport.Entry profileEquals(Field field, Field discriminator) {
+        Object different = subjectCreator.valuesFor(discriminator).blue();
+        IntFunction<IntSupplier> call = size -> {
+            T left = subjectCreator.withFieldsSetTo(Map.of(field, scale(field, size)));
+            T right = subjectCreator.withFieldsSetTo(Map.of(field, scale(field, size), discriminator, different));
+            return () -> left.equals(right) ? 1 : 0;
+        };
+        return measure("equals", field, discriminator.getName(), call);
+    }
+
+    private CostReport.Entry measure(
+            String method,
+            Field field,
+            String cheapFieldName,
+            IntFunction<IntSupplier> callWithSize) {
+        IntSupplier small = callWithSize.apply(SMALL_SIZE);
+        IntSupplier large = callWithSize.apply(LARGE_SIZE);
+        // Small and large batches take turns, so the JIT has compiled the same code for both when they're measured.
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            batch(small);
+            batch(large);
+        }
+        long fastestSmall = Long.MAX_VALUE;
+        long fastestLarge = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            fastestSmall = Math.min(fastestSmall, batch(small));
+            fastestLarge = Math.min(fastestLarge, batch(large));
+        }
+        return new CostReport.Entry(method,
+                field.getName(),
+                cheapFieldName,
+                SMALL_SIZE,
+                LARGE_SIZE,
+                (double) fastestSmall / CALLS_PER_BATCH,
+                (double) fastestLarge / CALLS_PER_BATCH);
+    }
+
+    private long batch(IntSupplier call) {
+        int result = sink;
+        long start = clock.getAsLong();
+        for (int i = 0; i < CALLS_PER_BATCH; i++) {
+            result += call.getAsInt();
+        }
+        long duration = clock.getAsLong() - start;
+        sink = result;
+        return duration;
+    }
+
+    /**
+     * Creates a new value of the given size for the given field, or returns null if the field's type can't be scaled.
+     * Each call returns a new object, so two values of the same size are equal, but not identical.
+     */
+    private Object scale(Field field, int size) {
+        Class<?> type = field.getType();
+        if (type == String.class) {
+            return "x".repeat(size);
+        }
+        Object prefab = subjectCreator.valuesFor(field).red();
+        if (type.isArray()) {
+            return scaleArray(type.getComponentType(), prefab, size);
+        }
+        if (prefab instanceof Collection<?> c && type.isAssignableFrom(ArrayList.class)) {
+            return c.isEmpty() ? null : new ArrayList<>(Collections.nCopies(size, c.iterator().next()));
+        }
+        TypeTag tag = TypeTag.of(field, config.typeTag());
+        if (type.isAssignableFrom(HashSet.class)) {
+            List<Object> elements = distinctElements(InstantiationUtil.determineGenericType(tag, 0), size);
+            return elements == null ? null : new HashSet<>(elements);
+        }
+        if (prefab instanceof Map<?, ?> m && type.isAssignableFrom(HashMap.class)) {
+            return scaleMap(InstantiationUtil.determineGenericType(tag, 0), m, size);
+        }
+        return null;
+    }
+
+    private static Object scaleArray(Class<?> componentType, Object prefab, int size) {
+        Object result = Array.newInstance(componentType, size);
+        if (prefab != null && Array.getLength(prefab) > 0) {
+            Object element = Array.get(prefab, 0);
+            for (int i = 0; i < size; i++) {
+                Array.set(result, i, element);
+            }
+        }
+        return result;
+    }
+
+    private static Object scaleMap(TypeTag keyTag, Map<?, ?> prefab, int size) {
+        List<Object> keys = distinctElements(keyTag, size);
+        if (keys == null || prefab.isEmpty()) {
+            return null;
+        }
+        Object value = prefab.values().iterator().next();
+        var result = new HashMap<Object, Object>();
+        for (Object key : keys) {
+            result.put(key, value);
+        }
+        return result;
+    }
+
+    private static List<Object> distinctElements(TypeTag tag, int size) {
+        Class<?> type = tag.getType();
+        if (type != String.class && type != Integer.class) {
+            return null;
+        }
+        var result = new ArrayList<Object>();
+        for (int i = 0; i < size; i++) {
+            result.add(type == String.class ? "e" + i : Integer.valueOf(i));
+        }
+        return result;
+    }
+}
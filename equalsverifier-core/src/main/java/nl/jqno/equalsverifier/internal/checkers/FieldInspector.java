@@ -1,23 +1,166 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 
+/**
+ * Runs a {@link FieldCheck} on each field of a class.
+ *
+ * <p>
+ * When {@link Mode#parallelFieldChecks()} is set, the fields are divided over several workers, each with its own copy
+ * of the {@link Context}, and therefore its own instances and values. The calling thread is one of the workers; the
+ * others run on the common {@link ForkJoinPool}, and the work they do is added to the timings of the calling thread. If
+ * the check fails for more than one field, the failure for the field that comes first is reported, just as it would be
+ * if the fields were checked one by one.
+ *
+ * <p>
+ * Static fields are shared by all instances, so a check that changes one would affect the checks that the other workers
+ * run at the same time. They are therefore checked on the calling thread, after the other workers are done.
+ */
 public class FieldInspector<T> {
 
-    private final Class<T> type;
-    private final boolean isKotlin;
+    private final Context<T> context;
+    private final FieldIterable fields;
+    private final boolean parallel;
+    private List<Context<T>> workers = null;
+
+    public FieldInspector(Context<T> context) {
+        this.context = context;
+        var type = context.getType();
+        this.fields = context.getConfiguration().isKotlin() ? FieldIterable.ofKotlin(type) : FieldIterable.of(type);
+        this.parallel = context.getConfiguration().modes().contains(Mode.parallelFieldChecks());
+    }
+
+    /**
+     * Runs the check that the given factory creates on each field.
+     *
+     * @param checkFactory Creates the check for a given context. It's called once for each worker.
+     */
+    public void check(Function<Context<T>, FieldCheck<T>> checkFactory) {
+        FieldCheck<T> check = checkFactory.apply(context);
+        TimingRecorder.measure(check.getClass().getSimpleName(), () -> {
+            if (parallel) {
+                checkInParallel(check, checkFactory);
+            }
+            else {
+                for (FieldProbe fieldProbe : fields) {
+                    check.execute(fieldProbe);
+                }
+            }
+        });
+    }
+
+    private List<Context<T>> workers(int fieldCount) {
+        if (workers == null) {
+            // The calling thread works alongside the threads of the pool.
+            int count = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() + 1, fieldCount));
+            workers = new ArrayList<>();
+            workers.add(context);
+            for (int i = 1; i < count; i++) {
+                workers.add(context.copy());
+            }
+        }
+        return workers;
+    }
+
+    private void checkInParallel(FieldCheck<T> check, Function<Context<T>, FieldCheck<T>> checkFactory) {
+        List<FieldProbe> probes = new ArrayList<>();
+        fields.forEach(probes::add);
+        List<Context<T>> contexts = workers(probes.size());
+        var failures = new AtomicReferenceArray<Throwable>(probes.size());
+        var firstFailure = new AtomicInteger(probes.size());
+
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        var recorders = new ArrayList<TimingRecorder>();
+        Predicate<FieldProbe> instanceFields = p -> !p.isStatic();
+        for (int w = 1; w < contexts.size(); w++) {
+            var worker = new Worker(checkFactory
+                    .apply(contexts.get(w)), w, contexts.size(), probes, instanceFields, failures, firstFailure);
+            var recorder = TimingRecorder.forWorker();
+            recorders.add(recorder);
+            futures.add(CompletableFuture.runAsync(() -> recorder.runWith(worker), ForkJoinPool.commonPool()));
+        }
+        new Worker(check, 0, contexts.size(), probes, instanceFields, failures, firstFailure).run();
+        futures.forEach(CompletableFuture::join);
+        recorders.forEach(TimingRecorder::addCounts);
+        new Worker(check, 0, 1, probes, FieldProbe::isStatic, failures, firstFailure).run();
 
-    public FieldInspector(Class<T> type, boolean isKotlin) {
-        this.type = type;
-        this.isKotlin = isKotlin;
+        int index = firstFailure.get();
+        if (index < probes.size()) {
+            rethrow(failures.get(index));
+        }
+    }
+
+    private static void rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        throw (Error) failure;
     }
 
-    public void check(FieldCheck<T> check) {
-        FieldIterable it = isKotlin ? FieldIterable.ofKotlin(type) : FieldIterable.of(type);
-        for (FieldProbe fieldProbe : it) {
-            check.execute(fieldProbe);
+    /**
+     * Checks every n-th field that matches a filter, starting at a given offset, in the order of the fields. Stops as
+     * soon as another worker has found a failure in a field that comes earlier, because only the first failure gets
+     * reported.
+     */
+    private final class Worker implements Runnable {
+        private final FieldCheck<T> check;
+        private final int offset;
+        private final int stride;
+        private final List<FieldProbe> probes;
+        private final Predicate<FieldProbe> filter;
+        private final AtomicReferenceArray<Throwable> failures;
+        private final AtomicInteger firstFailure;
+
+        private Worker(
+                FieldCheck<T> check,
+                int offset,
+                int stride,
+                List<FieldProbe> probes,
+                Predicate<FieldProbe> filter,
+                AtomicReferenceArray<Throwable> failures,
+                AtomicInteger firstFailure) {
+            this.check = check;
+            this.offset = offset;
+            this.stride = stride;
+            this.probes = probes;
+            this.filter = filter;
+            this.failures = failures;
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        public void run() {
+            for (int i = offset; i < firstFailure.get(); i += stride) {
+                if (filter.test(probes.get(i)) && !execute(i)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean execute(int i) {
+            try {
+                check.execute(probes.get(i));
+                return true;
+            }
+            catch (RuntimeException | Error e) {
+                failures.set(i, e);
+                firstFailure.accumulateAndGet(i, Math::min);
+                return false;
+            }
         }
     }
 }
@@ -0,0 +1,295 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Function;
+
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.ModeInstance;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
+
+/**
+ * Checks whether {@code hashCode} spreads instances well, when {@link ModeInstance#maxCollisionRate(Set)} is set.
+ *
+ * <p>
+ * Generates a few thousand instances in which each field gets a value from a pool of values for its type. Fields of the
+ * same type share a pool, so hash codes that treat fields symmetrically, for instance by XOR-ing them, collide. Types
+ * for which EqualsVerifier can't make up values get their red and blue prefab values. The values are chosen by a
+ * {@link Random} with a fixed seed, so the outcome is the same on every run.
+ */
+public class HashCodeDistributionChecker<T> implements Checker {
+
+    private static final long SEED = 20_260_101L;
+    private static final int SAMPLES = 2_000;
+    private static final int VARIATIONS_PER_FIELD = 200;
+    private static final int POOL_SIZE = 64;
+    private static final int MIN_DISTINCT_INSTANCES = 32;
+    private static final double MIN_BUCKET_USAGE = 0.5;
+    private static final double MIN_FIELD_INFLUENCE = 0.5;
+    private static final int[] TABLE_SIZES = { 16, 64, 256, 1024, 4096 };
+    private static final Map<Class<?>, Function<Random, Object>> GENERATORS = Map
+            .ofEntries(
+                Map.entry(int.class, Random::nextInt),
+                Map.entry(Integer.class, Random::nextInt),
+                Map.entry(long.class, Random::nextLong),
+                Map.entry(Long.class, Random::nextLong),
+                Map.entry(short.class, r -> (short) r.nextInt()),
+                Map.entry(Short.class, r -> (short) r.nextInt()),
+                Map.entry(byte.class, r -> (byte) r.nextInt()),
+                Map.entry(Byte.class, r -> (byte) r.nextInt()),
+                Map.entry(char.class, r -> (char) ('a' + r.nextInt(26))),
+                Map.entry(Character.class, r -> (char) ('a' + r.nextInt(26))),
+                Map.entry(double.class, r -> r.nextInt(1_000_000) / 100.0),
+                Map.entry(Double.class, r -> r.nextInt(1_000_000) / 100.0),
+                Map.entry(float.class, r -> r.nextInt(1_000_000) / 100.0f),
+                Map.entry(Float.class, r -> r.nextInt(1_000_000) / 100.0f),
+                Map.entry(String.class, HashCodeDistributionChecker::randomString));
+
+    private final Configuration<T> config;
+    private final SubjectCreator<T> subjectCreator;
+    private final CachedHashCodeInitializer<T> cachedHashCodeInitializer;
+    private final Random random = new Random(SEED);
+
+    public HashCodeDistributionChecker(Context<T> context) {
+        this.config = context.getConfiguration();
+        this.subjectCreator = context.getSubjectCreator();
+        this.cachedHashCodeInitializer = config.cachedHashCodeInitializer();
+    }
+
+    @Override
+    public void check() {
+        OptionalDouble maxCollisionRate = ModeInstance.maxCollisionRate(config.modes());
+        if (maxCollisionRate.isEmpty()) {
+            return;
+        }
+
+        Map<Field, List<Object>> pools = buildPools();
+        if (pools.isEmpty()) {
+            return;
+        }
+        List<Sample<T>> samples = createSamples(pools);
+        var problems = new ArrayList<String>();
+        var details = new ArrayList<String>();
+
+        Set<T> distinct = new HashSet<>();
+        for (Sample<T> s : samples) {
+            distinct.add(s.instance());
+        }
+        if (distinct.size() >= MIN_DISTINCT_INSTANCES) {
+            checkCollisions(distinct, maxCollisionRate.getAsDouble(), problems, details);
+            checkBuckets(distinct, problems, details);
+        }
+        checkFields(pools, samples, problems, details);
+
+        if (!problems.isEmpty()) {
+            var msg = new StringBuilder("hashCode distribution: hashCode spreads instances of ")
+                    .append(config.type().getSimpleName())
+                    .append(" poorly.");
+            problems.forEach(p -> msg.append("\n  ").append(p));
+            details.forEach(d -> msg.append("\n  ").append(d));
+            fail(Formatter.of(msg.toString()));
+        }
+    }
+
+    private void checkCollisions(Set<T> distinct, double maxRate, List<String> problems, List<String> details) {
+        var counts = new HashMap<Integer, Integer>();
+        for (T t : distinct) {
+            counts.merge(hash(t), 1, Integer::sum);
+        }
+        int colliding = counts.values().stream().filter(c -> c > 1).mapToInt(c -> c).sum();
+        double rate = (double) colliding / distinct.size();
+        String line = String
+                .format(
+                    Locale.ROOT,
+                    "%d distinct instances have %d distinct hash codes; %d of them (%.1f%%) share their hash code with"
+                            + " another instance, where at most %.1f%% may.",
+                    distinct.size(),
+                    counts.size(),
+                    colliding,
+                    rate * 100,
+                    maxRate * 100);
+        (rate > maxRate ? problems : details).add(line);
+    }
+
+    private void checkBuckets(Set<T> distinct, List<String> problems, List<String> details) {
+        int tableSize = 16;
+        while (tableSize * 0.75 < distinct.size()) {
+            tableSize *= 2;
+        }
+        var parts = new ArrayList<String>();
+        boolean poor = false;
+        for (int n : TABLE_SIZES) {
+            if (n > tableSize) {
+                break;
+            }
+            var used = new HashSet<Integer>();
+            for (T t : distinct) {
+                used.add(spread(hash(t)) & (n - 1));
+            }
+            double expected = n * (1 - Math.pow(1 - 1.0 / n, distinct.size()));
+            double usage = used.size() / expected;
+            poor |= usage < MIN_BUCKET_USAGE;
+            parts.add(String.format(Locale.ROOT, "%d of %d (%.0f%% of expected)", used.size(), n, usage * 100));
+        }
+        String line = "HashMap buckets used: " + String.join(", ", parts) + ".";
+        (poor ? problems : details).add(line);
+    }
+
+    private void checkFields(
+            Map<Field, List<Object>> pools,
+            List<Sample<T>> samples,
+            List<String> problems,
+            List<String> details) {
+        var weak = new ArrayList<String>();
+        var avalanche = new ArrayList<String>();
+        for (var entry : pools.entrySet()) {
+            Field field = entry.getKey();
+            List<Object> pool = entry.getValue();
+            var influence = measureInfluence(field, pool, samples);
+            if (influence.unequal() == 0) {
+                // equals doesn't use this field, so hashCode shouldn't either.
+                continue;
+            }
+            double rate = (double) influence.changed() / influence.unequal();
+            if (rate < MIN_FIELD_INFLUENCE && !config.warningsToSuppress().contains(Warning.STRICT_HASHCODE)) {
+                weak.add(String.format(Locale.ROOT, "%s (%.0f%%)", field.getName(), rate * 100));
+            }
+            double bits = (double) influence.bitsFlipped() / influence.unequal();
+            avalanche.add(String.format(Locale.ROOT, "%s %.1f", field.getName(), bits));
+        }
+        if (!weak.isEmpty()) {
+            problems
+                    .add(
+                        "Fields that barely affect hashCode, with how often changing them changes hashCode: "
+                                + String.join(", ", weak) + ".");
+        }
+        if (!avalanche.isEmpty()) {
+            details
+                    .add(
+                        "Bits of the hash code that change when a field changes, on average (ideally 16 of 32): "
+                                + String.join(", ", avalanche) + ".");
+        }
+    }
+
+    private Influence measureInfluence(Field field, List<Object> pool, List<Sample<T>> samples) {
+        int unequal = 0;
+        int changed = 0;
+        int bitsFlipped = 0;
+        for (Sample<T> base : samples.subList(0, Math.min(VARIATIONS_PER_FIELD, samples.size()))) {
+            var values = new HashMap<>(base.values());
+            Object current = values.get(field);
+            Object other = pool.get((pool.indexOf(current) + 1 + random.nextInt(pool.size() - 1)) % pool.size());
+            values.put(field, other);
+            T varied = create(values);
+            if (varied == null || base.instance().equals(varied)) {
+                continue;
+            }
+            int h1 = hash(base.instance());
+            int h2 = hash(varied);
+            unequal += 1;
+            changed += h1 == h2 ? 0 : 1;
+            bitsFlipped += Integer.bitCount(spread(h1) ^ spread(h2));
+        }
+        return new Influence(unequal, changed, bitsFlipped);
+    }
+
+    private List<Sample<T>> createSamples(Map<Field, List<Object>> pools) {
+        var result = new ArrayList<Sample<T>>();
+        for (int i = 0; i < SAMPLES; i++) {
+            var values = new HashMap<Field, Object>();
+            for (var entry : pools.entrySet()) {
+                List<Object> pool = entry.getValue();
+                values.put(entry.getKey(), pool.get(random.nextInt(pool.size())));
+            }
+            T instance = create(values);
+            if (instance != null) {
+                result.add(new Sample<>(values, instance));
+            }
+        }
+        return result;
+    }
+
+    private T create(Map<Field, Object> values) {
+        try {
+            return subjectCreator.withFieldsSetTo(values);
+        }
+        catch (RuntimeException e) {
+            // The class doesn't accept this combination of values, for instance because of a precondition.
+            return null;
+        }
+    }
+
+    private Map<Field, List<Object>> buildPools() {
+        var byType = new HashMap<Class<?>, List<Object>>();
+        var result = new LinkedHashMap<Field, List<Object>>();
+        for (FieldProbe p : FieldIterable.ofIgnoringStatic(config.type())) {
+            if (config.ignoredFields().contains(p.getName())) {
+                continue;
+            }
+            Class<?> type = p.getType();
+            List<Object> pool = byType.computeIfAbsent(type, this::generatePool);
+            if (pool.isEmpty()) {
+                var tuple = subjectCreator.valuesFor(p.getField());
+                pool = Arrays.asList(tuple.red(), tuple.blue());
+            }
+            if (pool.size() > 1) {
+                result.put(p.getField(), pool);
+            }
+        }
+        return result;
+    }
+
+    private List<Object> generatePool(Class<?> type) {
+        if (type.isEnum()) {
+            return Arrays.asList(type.getEnumConstants());
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return List.of(true, false);
+        }
+        var result = new LinkedHashSet<Object>();
+        for (int attempt = 0; attempt < POOL_SIZE * 4 && result.size() < POOL_SIZE; attempt++) {
+            Object value = generateValue(type);
+            if (value == null) {
+                return List.of();
+            }
+            result.add(value);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private Object generateValue(Class<?> type) {
+        Function<Random, Object> generator = GENERATORS.get(type);
+        return generator == null ? null : generator.apply(random);
+    }
+
+    private static String randomString(Random random) {
+        var sb = new StringBuilder();
+        int length = 1 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private int hash(T t) {
+        return cachedHashCodeInitializer.getInitializedHashCode(t);
+    }
+
+    /** The same spreading function that {@link HashMap} applies before it picks a bucket. */
+    private static int spread(int h) {
+        return h ^ Integer.divideUnsigned(h, 65_536);
+    }
+
+    private record Sample<T>(Map<Field, Object> values, T instance) {}
+
+    /** How often changing a field made the instance unequal, and how that changed the hash code. */
+    private record Influence(int unequal, int changed, int bitsFlipped) {}
+}
@@ -18,7 +18,7 @@ public class NullChecker<T> implements Checker {
             return;
         }
 
-        var inspector = new FieldInspector<>(context.getType(), context.getConfiguration().isKotlin());
-        inspector.check(new NullPointerExceptionFieldCheck<>(context));
+        var inspector = new FieldInspector<>(context);
+        inspector.check(NullPointerExceptionFieldCheck::new);
     }
 }
@@ -24,11 +24,11 @@ public class MutableStateFieldCheck<T> implements FieldCheck<T> {
             return;
         }
 
-        T reference = subjectCreator.plain();
-        T copy = subjectCreator.plain();
+        T reference = subjectCreator.reusablePlain();
+        T copy = subjectCreator.reusablePlainCopy();
 
         boolean equalBefore = reference.equals(copy);
-        T changed = subjectCreator.withFieldChanged(fieldProbe.getField());
+        T changed = subjectCreator.reusableWithFieldChanged(fieldProbe.getField());
         boolean equalAfter = reference.equals(changed);
 
         if (equalBefore && !equalAfter && !fieldProbe.isFinal()) {
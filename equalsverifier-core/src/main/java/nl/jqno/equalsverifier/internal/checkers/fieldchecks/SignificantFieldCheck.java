@@ -48,16 +48,16 @@ public class SignificantFieldCheck<T> implements FieldCheck<T> {
         }
 
         checkValues(
-            subjectCreator.plain(),
-            subjectCreator.plain(),
-            subjectCreator.withFieldChanged(fieldProbe.getField()),
+            subjectCreator.reusablePlain(),
+            subjectCreator.reusablePlainCopy(),
+            subjectCreator.reusableWithFieldChanged(fieldProbe.getField()),
             fieldProbe,
             false);
         if (fieldProbe.canBeDefault(config)) {
             checkValues(
-                subjectCreator.withAllFieldsDefaulted(),
-                subjectCreator.withAllFieldsDefaulted(),
-                subjectCreator.withAllFieldsDefaultedExcept(fieldProbe.getField()),
+                subjectCreator.reusableWithAllFieldsDefaulted(),
+                subjectCreator.reusableWithAllFieldsDefaultedCopy(),
+                subjectCreator.reusableWithAllFieldsDefaultedExcept(fieldProbe.getField()),
                 fieldProbe,
                 true);
         }
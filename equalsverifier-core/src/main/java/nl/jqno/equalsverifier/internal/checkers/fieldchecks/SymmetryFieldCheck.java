@@ -16,9 +16,9 @@ public class SymmetryFieldCheck<T> implements FieldCheck<T> {
 
     @Override
     public void execute(FieldProbe fieldProbe) {
-        T left = subjectCreator.plain();
-        T right = subjectCreator.plain();
-        T changedRight = subjectCreator.withFieldChanged(fieldProbe.getField());
+        T left = subjectCreator.reusablePlain();
+        T right = subjectCreator.reusablePlainCopy();
+        T changedRight = subjectCreator.reusableWithFieldChanged(fieldProbe.getField());
 
         checkSymmetry(left, right);
         checkSymmetry(left, changedRight);
@@ -16,9 +16,9 @@ public class TransitivityFieldCheck<T> implements FieldCheck<T> {
 
     @Override
     public void execute(FieldProbe fieldProbe) {
-        T a1 = subjectCreator.plain();
-        T b1 = subjectCreator.withFieldChanged(fieldProbe.getField());
-        T b2 = subjectCreator.withAllFieldsChanged();
+        T a1 = subjectCreator.reusablePlain();
+        T b1 = subjectCreator.reusableWithFieldChanged(fieldProbe.getField());
+        T b2 = subjectCreator.reusableWithAllFieldsChanged();
 
         boolean x = a1.equals(b1);
         boolean y = b1.equals(b2);
@@ -5,9 +5,12 @@ import java.lang.reflect.Field;
 import java.util.*;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.reflection.AccessorPlan;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 import org.objenesis.Objenesis;
 
 /**
@@ -38,9 +41,24 @@ public class ClassConstructorInstantiator<T> implements Instantiator<T> {
             }
             params.add(value);
         }
+        return construct(params.toArray());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(ValueVector values) {
+        if (values.plan() != AccessorPlan.of(type)) {
+            return instantiate(values.toMap());
+        }
+        // The constructor was selected because its parameters match the fields, in order.
+        return construct(values.toArrayWithDefaults());
+    }
+
+    private T construct(Object[] params) {
+        TimingRecorder.countInstance();
         try {
             constructor.setAccessible(true); // Not strictly needed: already made accessible in InstantiatorFactory. But we'll leave it just in case.
-            return constructor.newInstance(params.toArray());
+            return constructor.newInstance(params);
         }
         catch (ReflectiveOperationException e) {
             throw new ReflectionException(e);
@@ -4,8 +4,9 @@ import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
-import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
-import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.AccessorPlan;
+import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 
 /**
  * Creates an instance of a class or record.
@@ -22,6 +23,21 @@ public interface Instantiator<T> {
      */
     T instantiate(Map<Field, Object> values);
 
+    /**
+     * Creates an instance of the given type, with its fields set to the values in the given vector. Slots without a
+     * value are set to their field's default value: null for object references, 0 for numbers, false for booleans.
+     *
+     * <p>
+     * The vector's slots should belong to the type that this Instantiator creates; that way, the values can be assigned
+     * without looking up any fields.
+     *
+     * @param values Values to assign to the instance's fields.
+     * @return An instance with assigned values.
+     */
+    default T instantiate(ValueVector values) {
+        return instantiate(values.toMap());
+    }
+
     /**
      * Creates a new instance with all fields set to the same value as their counterparts from {@code original}.
      *
@@ -30,9 +46,9 @@ public interface Instantiator<T> {
      */
     default T copy(Object original) {
         var values = new HashMap<Field, Object>();
-        for (FieldProbe p : FieldIterable.ofIgnoringStatic(original.getClass())) {
-            Object value = p.getValue(original);
-            values.put(p.getField(), value);
+        for (FieldAccessor a : AccessorPlan.of(original.getClass()).instanceFields()) {
+            Object value = a.getValue(original);
+            values.put(a.getField(), value);
         }
         return instantiate(values);
     }
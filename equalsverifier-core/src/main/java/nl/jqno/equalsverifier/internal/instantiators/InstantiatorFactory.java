@@ -3,6 +3,8 @@ package nl.jqno.equalsverifier.internal.instantiators;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InaccessibleObjectException;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.InstanceFactory;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
@@ -14,6 +16,20 @@ import org.objenesis.Objenesis;
 
 public final class InstantiatorFactory {
 
+    // Whether final fields can be modified through reflection depends on the JVM and its flags, so it can't change.
+    private static final boolean CANT_REFLECTIVELY_MODIFY_FINAL = cantReflectivelyModifyFinal();
+
+    // Finding the right Instantiator involves reflection, so the Instantiator for each class is kept in a ClassValue,
+    // keyed by whether final means final. Instantiators are stateless, so they can be shared between verifications
+    // and threads. Instantiators for a user-provided factory are cheap to create, so they aren't cached; this also
+    // makes sure that the factories don't outlive the verifications they belong to.
+    private static final ClassValue<Map<Boolean, Instantiator<?>>> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected Map<Boolean, Instantiator<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private InstantiatorFactory() {
         // Do not instantiate
     }
@@ -64,12 +80,23 @@ public final class InstantiatorFactory {
             throw new EqualsVerifierInternalBugException("No InstanceFactory given; must provide a type!");
         }
 
+        boolean finalMeansFinal = forceFinalMeansFinal || CANT_REFLECTIVELY_MODIFY_FINAL;
+        var cache = INSTANTIATORS.get(probe.getType());
+        @SuppressWarnings("unchecked")
+        var result = (Instantiator<T>) cache.get(finalMeansFinal);
+        if (result == null) {
+            result = create(probe, objenesis, finalMeansFinal);
+            cache.putIfAbsent(finalMeansFinal, result);
+        }
+        return result;
+    }
+
+    private static <T> Instantiator<T> create(ClassProbe<T> probe, Objenesis objenesis, boolean finalMeansFinal) {
         Class<T> type = probe.getType();
         if (probe.isRecord()) {
             return new RecordConstructorInstantiator<>(type);
         }
 
-        boolean finalMeansFinal = forceFinalMeansFinal || cantReflectivelyModifyFinal();
         if (!finalMeansFinal || !hasFinalFields(type)) {
             return new ReflectionInstantiator<>(probe, objenesis);
         }
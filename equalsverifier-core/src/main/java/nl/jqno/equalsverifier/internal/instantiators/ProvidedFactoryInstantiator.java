@@ -5,6 +5,7 @@ import java.util.Map;
 
 import nl.jqno.equalsverifier.InstanceFactory;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 import org.objenesis.Objenesis;
 
 /**
@@ -29,6 +30,7 @@ public final class ProvidedFactoryInstantiator<T> implements Instantiator<T> {
     /** {@inheritDoc} */
     @Override
     public T instantiate(Map<Field, Object> values) {
+        TimingRecorder.countInstance();
         var v = ConcreteValues.of(values, throwing);
         return instanceFactory.create(v);
     }
@@ -1,13 +1,13 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Map;
 
-import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.reflection.AccessorPlan;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import nl.jqno.equalsverifier.internal.reflection.RecordProbe;
-import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 import org.objenesis.Objenesis;
 
 /**
@@ -15,6 +15,7 @@ import org.objenesis.Objenesis;
  */
 public class RecordConstructorInstantiator<T> implements Instantiator<T> {
     private final Class<T> type;
+    private final RecordProbe<T> probe;
 
     /**
      * Package private constructor. Use {@link InstantiatorFactory#of(ClassProbe, Objenesis, boolean)} instead.
@@ -23,27 +24,26 @@ public class RecordConstructorInstantiator<T> implements Instantiator<T> {
      */
     RecordConstructorInstantiator(Class<T> type) {
         this.type = type;
+        this.probe = new RecordProbe<>(type);
     }
 
     /** {@inheritDoc} */
     @Override
-    public T instantiate(Map<Field, Object> values) {
-        var params = new ArrayList<Object>();
-        for (var component : type.getRecordComponents()) {
-            try {
-                Field f = type.getDeclaredField(component.getName());
+    public T instantiate(ValueVector values) {
+        if (values.plan() != AccessorPlan.of(type)) {
+            return instantiate(values.toMap());
+        }
+        TimingRecorder.countInstance();
+        return probe.callRecordConstructor(values);
+    }
 
-                Object value = values.get(f);
-                if (value == null) {
-                    value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(f.getType());
-                }
-                params.add(value);
-            }
-            catch (NoSuchFieldException e) {
-                throw new ReflectionException(e);
-            }
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(Map<Field, Object> values) {
+        var vector = ValueVector.of(type);
+        for (int i = 0; i < vector.size(); i++) {
+            vector.set(i, values.get(vector.field(i)));
         }
-        var recordProbe = new RecordProbe<T>(type);
-        return recordProbe.callRecordConstructor(params);
+        return instantiate(vector);
     }
 }
@@ -1,12 +1,13 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.*;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 import org.objenesis.Objenesis;
 import org.objenesis.instantiator.ObjectInstantiator;
 
@@ -18,6 +19,8 @@ public final class ReflectionInstantiator<T> implements Instantiator<T> {
     private final Class<T> type;
     private final ClassProbe<T> probe;
     private final ObjectInstantiator<T> objenesisInstantiator;
+    private final AccessorPlan plan;
+    private final List<FieldMutator> mutators;
 
     /**
      * Package private constructor. Use {@link InstantiatorFactory#of(ClassProbe, Objenesis, boolean)} instead.
@@ -29,26 +32,56 @@ public final class ReflectionInstantiator<T> implements Instantiator<T> {
         this.type = probe.getType();
         this.probe = probe;
         this.objenesisInstantiator = objenesis.getInstantiatorOf(type);
+        this.plan = AccessorPlan.of(type);
+        this.mutators = plan.instanceFields().stream().map(FieldMutator::new).toList();
     }
 
     /** {@inheritDoc} */
     @Override
     public T instantiate(Map<Field, Object> values) {
-        if (probe.isAbstract()) {
-            throw new ReflectionException("Cannot instantiate abstract class " + probe.getType().getName());
+        T instance = newInstance();
+        for (FieldMutator m : mutators) {
+            Object value = values.get(m.getField());
+            if (value == null) {
+                value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(m.getField().getType());
+            }
+            m.setNewValue(instance, value);
         }
-        T instance = objenesisInstantiator.newInstance();
-        traverseFields(values, (p, v) -> new FieldMutator(p).setNewValue(instance, v));
         return instance;
     }
 
-    private void traverseFields(Map<Field, Object> values, BiConsumer<FieldProbe, Object> setValue) {
-        for (FieldProbe p : FieldIterable.ofIgnoringStatic(type)) {
-            Object value = values.get(p.getField());
-            if (value == null) {
-                value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(p.getType());
-            }
-            setValue.accept(p, value);
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(ValueVector values) {
+        if (values.plan() != plan) {
+            return instantiate(values.toMap());
+        }
+        T instance = newInstance();
+        for (int i = 0; i < mutators.size(); i++) {
+            mutators.get(i).setNewValue(instance, values.getOrDefault(i));
+        }
+        return instance;
+    }
+
+    /**
+     * Assigns a new value to a field of an instance that this instantiator created earlier, without creating a new
+     * instance.
+     *
+     * @param instance The instance to change.
+     * @param slot     The slot of the field in the {@link AccessorPlan} of the class.
+     * @param value    The new value; null for the field's default value.
+     */
+    public void setValue(T instance, int slot, Object value) {
+        FieldMutator m = mutators.get(slot);
+        Object v = value == null ? PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(m.getField().getType()) : value;
+        m.setNewValue(instance, v);
+    }
+
+    private T newInstance() {
+        TimingRecorder.countInstance();
+        if (probe.isAbstract()) {
+            throw new ReflectionException("Cannot instantiate abstract class " + probe.getType().getName());
         }
+        return objenesisInstantiator.newInstance();
     }
 }
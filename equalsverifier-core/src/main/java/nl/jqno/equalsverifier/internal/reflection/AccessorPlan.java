@@ -0,0 +1,98 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+
+/**
+ * Holds the {@link FieldAccessor}s for a class, so they only have to be created once per class instead of once per
+ * access.
+ *
+ * <p>
+ * Plans are kept in a {@link PerClassCache}, so they don't keep any classloader alive.
+ */
+public final class AccessorPlan {
+
+    private static final PerClassCache<AccessorPlan> PLANS = new PerClassCache<>(AccessorPlan::new);
+
+    private final Class<?> type;
+    private final Map<Field, FieldAccessor> accessors = new ConcurrentHashMap<>();
+    private List<FieldAccessor> instanceFields;
+    private Object[] defaultValues;
+
+    private AccessorPlan(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the plan for the given class.
+     *
+     * @param type The class to get the plan for.
+     * @return The {@link AccessorPlan} for the class.
+     */
+    public static AccessorPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the accessors for all non-static fields of the class, including those declared in its superclasses, in
+     * the same order as {@link FieldIterable#ofIgnoringStatic(Class)}.
+     *
+     * @return The accessors for all non-static fields.
+     */
+    public List<FieldAccessor> instanceFields() {
+        // If two threads race to initialize the list, they'll create the same list; both are fine to use.
+        List<FieldAccessor> result = instanceFields;
+        if (result == null) {
+            var list = new ArrayList<FieldAccessor>();
+            for (FieldProbe p : FieldIterable.ofIgnoringStatic(type)) {
+                list.add(FieldAccessor.of(p.getField()));
+            }
+            result = List.copyOf(list);
+            instanceFields = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slot of the given field, i.e. its index in {@link #instanceFields()}.
+     *
+     * @param field The field to find.
+     * @return The slot of the field, or -1 if it isn't one of the non-static fields of the class.
+     */
+    public int slotOf(Field field) {
+        List<FieldAccessor> fields = instanceFields();
+        // Fields usually come from the same FieldIterable as the plan, so comparing identities is almost always enough.
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getField() == field) {
+                return i;
+            }
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getField().equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* package protected */ Object[] defaultValues() {
+        Object[] result = defaultValues;
+        if (result == null) {
+            result = instanceFields()
+                    .stream()
+                    .map(a -> PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(a.getField().getType()))
+                    .toArray();
+            defaultValues = result;
+        }
+        return result;
+    }
+
+    FieldAccessor accessorFor(Field field) {
+        return accessors.computeIfAbsent(field, FieldAccessor::new);
+    }
+}
@@ -0,0 +1,128 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+
+/**
+ * Computes a SHA-256 hash over strings and over the bytecode of classes, to detect whether anything has changed since a
+ * previous run.
+ */
+public final class BytecodeDigest {
+
+    private final MessageDigest digest;
+
+    private BytecodeDigest() {
+        this.digest = rethrow(() -> MessageDigest.getInstance("SHA-256"));
+    }
+
+    /**
+     * Creates a new, empty digest.
+     *
+     * @return A new digest.
+     */
+    public static BytecodeDigest create() {
+        return new BytecodeDigest();
+    }
+
+    /**
+     * Adds a string to the digest.
+     *
+     * @param value The string to add.
+     * @return {@code this}, for easy method chaining.
+     */
+    public BytecodeDigest add(String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return this;
+    }
+
+    /**
+     * Adds the name and the bytecode of the given class to the digest.
+     *
+     * @param type The class to add.
+     * @return {@code this}, for easy method chaining.
+     * @throws IllegalStateException If the bytecode of {@code type} can't be found; for instance, because it was
+     *                                   generated at runtime.
+     */
+    public BytecodeDigest addClass(Class<?> type) {
+        add(type.getName());
+        digest.update(ClassFileLocator.ForClassLoader.read(type));
+        return this;
+    }
+
+    /**
+     * Adds the names and the bytecode of the given class and all of its superclasses and interfaces to the digest.
+     *
+     * @param type The class to add.
+     * @return {@code this}, for easy method chaining.
+     * @throws IllegalStateException If the bytecode of one of the classes can't be found.
+     */
+    public BytecodeDigest addWithSupertypes(Class<?> type) {
+        for (Class<?> c : supertypesOf(type)) {
+            addClass(c);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the bytecode of the {@code package-info} class of the package of the given class to the digest, or a marker
+     * if the package doesn't have one.
+     *
+     * @param type A class in the package to add.
+     * @return {@code this}, for easy method chaining.
+     * @throws IllegalStateException If the {@code package-info} class can't be read.
+     */
+    public BytecodeDigest addPackageInfo(Class<?> type) {
+        String packageName = type.getPackageName();
+        String name = packageName.isEmpty() ? "package-info" : packageName + ".package-info";
+        add(name);
+        try (var locator = ClassFileLocator.ForClassLoader.of(type.getClassLoader())) {
+            var resolution = locator.locate(name);
+            if (resolution.isResolved()) {
+                digest.update(resolution.resolve());
+            }
+            else {
+                add("<none>");
+            }
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Can't read " + name, e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the digest as a hexadecimal string. The digest can't be used afterwards.
+     *
+     * @return The digest as a hexadecimal string.
+     */
+    public String toHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Set<Class<?>> supertypesOf(Class<?> type) {
+        var result = new LinkedHashSet<Class<?>>();
+        var todo = new ArrayDeque<Class<?>>();
+        todo.add(type);
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.remove();
+            if (result.add(c)) {
+                if (c.getSuperclass() != null) {
+                    todo.add(c.getSuperclass());
+                }
+                todo.addAll(Arrays.asList(c.getInterfaces()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the results of the reflective lookups that {@link ClassProbe} does on a class, so they only have to be done
+ * once per class instead of once per probe. Lookups that fail are remembered as well, without throwing and catching an
+ * exception each time.
+ *
+ * <p>
+ * Metadata is also needed for {@code Object} and other JDK superclasses, for instance to find out whether
+ * {@code equals} is inherited from {@code Object}, so it's kept in a {@link PerClassCache}. Each kind of member is only
+ * looked up when it's first needed, because looking up the members of a class can fail when some of the types they
+ * refer to are missing from the classpath.
+ */
+/* package protected */ final class ClassMetadata {
+
+    private static final PerClassCache<ClassMetadata> METADATA = new PerClassCache<>(ClassMetadata::new);
+
+    private final Class<?> type;
+    private final ClassProbe<?> probe;
+
+    // If two threads race to initialize one of these, they'll compute the same value; both are fine to use.
+    private Map<Signature, Method> methods;
+    private Set<String> methodNames;
+    private Map<String, Field> fields;
+    private Map<List<Class<?>>, Constructor<?>> constructors;
+    private Boolean equalsInheritedFromObject;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.probe = ClassProbe.create(type);
+    }
+
+    /**
+     * Returns the metadata for the given class.
+     *
+     * @param type The class to get the metadata for.
+     * @return The {@link ClassMetadata} for the class.
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Returns the {@link ClassProbe} for this class, which is shared by everyone who probes it.
+     *
+     * @param <T> The class.
+     * @return The {@link ClassProbe} for this class.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ClassProbe<T> probe() {
+        return (ClassProbe<T>) probe;
+    }
+
+    /**
+     * Finds a method that is declared in this class, regardless of its accessibility.
+     *
+     * @param name           The name of the method.
+     * @param parameterTypes The types of the method's parameters.
+     * @return The method, or null if this class doesn't declare it.
+     */
+    public Method declaredMethod(String name, Class<?>... parameterTypes) {
+        return methods().get(new Signature(name, List.of(parameterTypes)));
+    }
+
+    /**
+     * Determines whether this class declares a method with the given name, regardless of its parameters.
+     *
+     * @param name The name of the method.
+     * @return True if this class declares a method with the given name.
+     */
+    public boolean declaresMethodNamed(String name) {
+        Set<String> result = methodNames;
+        if (result == null) {
+            result = methods().keySet().stream().map(Signature::name).collect(Collectors.toUnmodifiableSet());
+            methodNames = result;
+        }
+        return result.contains(name);
+    }
+
+    /**
+     * Finds a field that is declared in this class, regardless of its accessibility.
+     *
+     * @param name The name of the field.
+     * @return The field, or null if this class doesn't declare it.
+     */
+    public Field declaredField(String name) {
+        Map<String, Field> result = fields;
+        if (result == null) {
+            result = Arrays
+                    .stream(type.getDeclaredFields())
+                    .collect(Collectors.toUnmodifiableMap(Field::getName, f -> f));
+            fields = result;
+        }
+        return result.get(name);
+    }
+
+    /**
+     * Finds a constructor that is declared in this class, regardless of its accessibility.
+     *
+     * @param parameterTypes The types of the constructor's parameters.
+     * @return The constructor, or null if this class doesn't declare it.
+     */
+    public Constructor<?> declaredConstructor(Class<?>[] parameterTypes) {
+        Map<List<Class<?>>, Constructor<?>> result = constructors;
+        if (result == null) {
+            result = Arrays
+                    .stream(type.getDeclaredConstructors())
+                    .collect(Collectors.toUnmodifiableMap(c -> List.of(c.getParameterTypes()), c -> c));
+            constructors = result;
+        }
+        return result.get(List.of(parameterTypes));
+    }
+
+    /**
+     * Determines whether this class's {@code equals} method is inherited from {@link Object}.
+     *
+     * @return true if this class's {@code equals} method is inherited from {@link Object}; false if it is overridden in
+     *             this class or in any of its superclasses (except {@link Object}).
+     */
+    public boolean isEqualsInheritedFromObject() {
+        Boolean result = equalsInheritedFromObject;
+        if (result == null) {
+            result = computeEqualsInheritedFromObject();
+            equalsInheritedFromObject = result;
+        }
+        return result;
+    }
+
+    private boolean computeEqualsInheritedFromObject() {
+        Class<?> superclass = type.getSuperclass();
+        if (type == Object.class || superclass == null) {
+            return true;
+        }
+        Method equals = declaredMethod("equals", Object.class);
+        if (equals != null && !Modifier.isAbstract(equals.getModifiers())) {
+            return false;
+        }
+        return of(superclass).isEqualsInheritedFromObject();
+    }
+
+    private Map<Signature, Method> methods() {
+        Map<Signature, Method> result = methods;
+        if (result == null) {
+            var map = new HashMap<Signature, Method>();
+            for (Method m : type.getDeclaredMethods()) {
+                // Like getDeclaredMethod, prefer the most specific return type when there are bridge methods.
+                map.merge(new Signature(m.getName(), List.of(m.getParameterTypes())), m, ClassMetadata::mostSpecific);
+            }
+            result = Map.copyOf(map);
+            methods = result;
+        }
+        return result;
+    }
+
+    private static Method mostSpecific(Method a, Method b) {
+        if (a.isBridge() || a.getReturnType().isAssignableFrom(b.getReturnType())) {
+            return b;
+        }
+        return a;
+    }
+
+    private record Signature(String name, List<Class<?>> parameterTypes) {}
+}
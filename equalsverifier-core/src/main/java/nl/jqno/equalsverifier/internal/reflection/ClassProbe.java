@@ -7,6 +7,10 @@ import java.util.Optional;
 
 /**
  * Provides read-only reflective access to a class.
+ *
+ * <p>
+ * There is only one probe per class; the results of its lookups are kept in a {@link ClassMetadata} that is shared by
+ * all threads.
  */
 public final class ClassProbe<T> {
 
@@ -25,6 +29,10 @@ public final class ClassProbe<T> {
      * @return A {@link ClassProbe} for T.
      */
     public static <T> ClassProbe<T> of(Class<T> type) {
+        return ClassMetadata.of(type).probe();
+    }
+
+    /* package protected */ static <T> ClassProbe<T> create(Class<T> type) {
         return new ClassProbe<>(type);
     }
 
@@ -70,7 +78,7 @@ public final class ClassProbe<T> {
      * @return True if T has an {@code equals} method.
      */
     public boolean declaresEquals() {
-        return declaresMethod(type, "equals", Object.class);
+        return ClassMetadata.of(type).declaredMethod("equals", Object.class) != null;
     }
 
     /**
@@ -79,7 +87,7 @@ public final class ClassProbe<T> {
      * @return True if T has a {@code hashCode} method.
      */
     public boolean declaresHashCode() {
-        return declaresMethod(type, "hashCode");
+        return ClassMetadata.of(type).declaredMethod("hashCode") != null;
     }
 
     /**
@@ -91,7 +99,7 @@ public final class ClassProbe<T> {
     public boolean hasMethod(String name) {
         Class<?> t = type;
         while (t != null) {
-            if (declaresMethod(t, name)) {
+            if (ClassMetadata.of(t).declaresMethodNamed(name)) {
                 return true;
             }
             t = t.getSuperclass();
@@ -99,17 +107,6 @@ public final class ClassProbe<T> {
         return false;
     }
 
-    @SuppressWarnings("ReturnValueIgnored")
-    private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
-        try {
-            type.getDeclaredMethod(name, parameterTypes);
-            return true;
-        }
-        catch (NoSuchMethodException e) {
-            return false;
-        }
-    }
-
     /**
      * Determines whether T's {@code equals} method is abstract.
      *
@@ -139,14 +136,7 @@ public final class ClassProbe<T> {
      *             any of its superclasses (except {@link Object}).
      */
     public boolean isEqualsInheritedFromObject() {
-        ClassProbe<? super T> i = this;
-        while (i.getType() != Object.class) {
-            if (i.declaresEquals() && !i.isEqualsAbstract()) {
-                return false;
-            }
-            i = i.getSuperProbe();
-        }
-        return true;
+        return ClassMetadata.of(type).isEqualsInheritedFromObject();
     }
 
     /**
@@ -158,7 +148,7 @@ public final class ClassProbe<T> {
     public Optional<Field> findField(String name) {
         Class<?> t = type;
         while (t != null) {
-            Field f = getField(t, name);
+            Field f = ClassMetadata.of(t).declaredField(name);
             if (f != null) {
                 return Optional.of(f);
             }
@@ -167,15 +157,6 @@ public final class ClassProbe<T> {
         return Optional.empty();
     }
 
-    private static Field getField(Class<?> type, String name) {
-        try {
-            return type.getDeclaredField(name);
-        }
-        catch (NoSuchFieldException e) {
-            return null;
-        }
-    }
-
     /**
      * Determines whether the given method in T is final.
      *
@@ -190,7 +171,7 @@ public final class ClassProbe<T> {
     private Optional<Method> findMethod(String name, Class<?>... parameterTypes) {
         Class<?> t = type;
         while (t != null) {
-            Method f = getMethod(t, name, parameterTypes);
+            Method f = ClassMetadata.of(t).declaredMethod(name, parameterTypes);
             if (f != null) {
                 return Optional.of(f);
             }
@@ -199,15 +180,6 @@ public final class ClassProbe<T> {
         return Optional.empty();
     }
 
-    private static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
-        try {
-            return type.getDeclaredMethod(name, parameterTypes);
-        }
-        catch (NoSuchMethodException e) {
-            return null;
-        }
-    }
-
     /**
      * Finds a constructor (no matter its accessibility) in T or its superclasses.
      *
@@ -218,7 +190,7 @@ public final class ClassProbe<T> {
     public Optional<Constructor<T>> findConstructor(Class<?>[] params) {
         Class<?> t = type;
         while (t != null) {
-            Constructor<T> f = (Constructor<T>) getConstructor(t, params);
+            Constructor<T> f = (Constructor<T>) ClassMetadata.of(t).declaredConstructor(params);
             if (f != null) {
                 return Optional.of(f);
             }
@@ -227,21 +199,13 @@ public final class ClassProbe<T> {
         return Optional.empty();
     }
 
-    private static <T> Constructor<T> getConstructor(Class<T> type, Class<?>[] params) {
-        try {
-            return type.getDeclaredConstructor(params);
-        }
-        catch (NoSuchMethodException e) {
-            return null;
-        }
-    }
-
     /**
      * Returns a probe for T's superclass.
      *
      * @return A probe for T's superclass.
      */
     public ClassProbe<? super T> getSuperProbe() {
-        return new ClassProbe<>(type.getSuperclass());
+        Class<? super T> superclass = type.getSuperclass();
+        return superclass == null ? create(null) : of(superclass);
     }
 }
@@ -0,0 +1,153 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import net.bytebuddy.ByteBuddy;
+import nl.jqno.equalsverifier.internal.util.ErrorMessage;
+
+/**
+ * Stores the bytecode of generated dynamic subclasses on disk, so they don't have to be generated again in the next
+ * run.
+ *
+ * <p>
+ * The cache is disabled by default. It can be enabled by setting the system property {@value #DIRECTORY_PROPERTY} to
+ * the directory in which the classes should be stored; for instance, {@code target/equalsverifier-cache}.
+ *
+ * <p>
+ * Entries are keyed by the bytecode of the superclass and all of its supertypes, by the name suffix of the dynamic
+ * subclass, by the version of EqualsVerifier, and by the ByteBuddy that generates the classes. Callers must therefore
+ * use a different name suffix for each different modification they apply to the same superclass. If anything goes wrong
+ * while reading or writing the cache, the class is simply generated as if the cache didn't exist.
+ */
+final class DynamicSubclassCache {
+
+    /** The system property that enables the cache. */
+    static final String DIRECTORY_PROPERTY = "equalsverifier.classCache";
+
+    // Increment when the way dynamic subclasses are generated changes in a way that the version number doesn't cover.
+    private static final String FORMAT = "1";
+    private static final String EXTENSION = ".class";
+
+    private final Path directory;
+    private final String byteBuddyVersion;
+
+    /* package protected for unit test */
+    DynamicSubclassCache(Path directory) {
+        this(directory, byteBuddyVersion());
+    }
+
+    /* package protected for unit test */
+    DynamicSubclassCache(Path directory, String byteBuddyVersion) {
+        this.directory = directory;
+        this.byteBuddyVersion = byteBuddyVersion;
+    }
+
+    /**
+     * Creates a cache for the directory in the {@value #DIRECTORY_PROPERTY} system property.
+     *
+     * @return A cache, or {@code null} if the system property isn't set.
+     */
+    static DynamicSubclassCache fromSystemProperty() {
+        String dir = System.getProperty(DIRECTORY_PROPERTY);
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        return new DynamicSubclassCache(Path.of(dir));
+    }
+
+    /**
+     * Determines the key under which a dynamic subclass is stored.
+     *
+     * @param superclass The class that the dynamic subclass extends.
+     * @param nameSuffix The name suffix of the dynamic subclass.
+     * @return The key, or {@code null} if the bytecode of {@code superclass}, one of its supertypes, or ByteBuddy can't
+     *             be found.
+     */
+    String keyFor(Class<?> superclass, String nameSuffix) {
+        if (byteBuddyVersion == null) {
+            return null;
+        }
+        try {
+            return BytecodeDigest
+                    .create()
+                    .add(FORMAT)
+                    .add(ErrorMessage.getVersion())
+                    .add(byteBuddyVersion)
+                    .add(nameSuffix)
+                    .addWithSupertypes(superclass)
+                    .toHex();
+        }
+        catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * ByteBuddy doesn't expose its version at runtime, and when it's shaded into EqualsVerifier, its manifest is gone
+     * too. Its entry point is different in practically every release, so we use a digest of its bytecode instead.
+     *
+     * @return The digest, or {@code null} if the bytecode can't be found.
+     */
+    private static String byteBuddyVersion() {
+        try {
+            return BytecodeDigest.create().addClass(ByteBuddy.class).toHex();
+        }
+        catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the bytecode that was stored under the given key.
+     *
+     * @param key The key, as returned by {@link #keyFor(Class, String)}.
+     * @return The stored bytecode, or {@code null} if there is none.
+     */
+    byte[] load(String key) {
+        try {
+            Path file = directory.resolve(key + EXTENSION);
+            return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores bytecode under the given key.
+     *
+     * <p>
+     * The file is written under a temporary name first, so that other JVMs that use the same directory never see a
+     * partially written class.
+     *
+     * @param key   The key, as returned by {@link #keyFor(Class, String)}.
+     * @param bytes The bytecode to store.
+     */
+    void store(String key, byte[] bytes) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, directory.resolve(key + EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | RuntimeException ignored) {
+            // The cache is only an optimization; the class will simply be generated again next time.
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException ignored) {
+            // Nothing we can do about it.
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+/**
+ * Reads and writes one field through {@link MethodHandle}s, which the JIT can optimize much better than
+ * {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ *
+ * <p>
+ * The handles are created once per field; use {@link #of(Field)} or {@link AccessorPlan} to get a shared instance. If a
+ * handle can't be created, for instance because a final field can't be modified or because the module system doesn't
+ * allow it, the accessor falls back to regular reflection, so that the same exceptions are thrown as before.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final FieldProbe probe;
+    private final boolean accessible;
+    private final MethodHandle getter;
+
+    // Created lazily: for final fields, creating a setter counts as mutating the field, which the JVM may warn about.
+    // If two threads race to create it, they create equivalent handles, and if a thread sees the flag but not the
+    // handle, it falls back to reflection. Both are harmless.
+    private MethodHandle setter;
+    private boolean setterResolved = false;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.probe = FieldProbe.of(field);
+        this.accessible = makeAccessible(field);
+        this.getter = accessible ? unreflectGetter(field) : null;
+    }
+
+    /**
+     * Returns the shared accessor for the given field.
+     *
+     * @param field The field to access.
+     * @return A {@link FieldAccessor} for the field.
+     */
+    public static FieldAccessor of(Field field) {
+        return AccessorPlan.of(field.getDeclaringClass()).accessorFor(field);
+    }
+
+    /**
+     * Returns the field itself.
+     *
+     * @return The field itself.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns a {@link FieldProbe} for the field.
+     *
+     * @return A {@link FieldProbe} for the field.
+     */
+    public FieldProbe getProbe() {
+        return probe;
+    }
+
+    /**
+     * Tries to get the field's value.
+     *
+     * @param object The object that contains the field whose value we want to get.
+     * @return The field's value.
+     * @throws ReflectionException If the operation fails.
+     */
+    public Object getValue(Object object) {
+        if (getter == null) {
+            return rethrow(() -> {
+                field.setAccessible(true);
+                return field.get(object);
+            });
+        }
+        try {
+            return getter.invokeExact(object);
+        }
+        catch (ClassCastException e) {
+            throw new IllegalArgumentException("Can not get " + field + " from " + object.getClass().getName(), e);
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new ReflectionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Assigns {@code newValue} to the field in {@code object}, without any additional checks.
+     *
+     * <p>
+     * Throws the same exceptions as {@link Field#set(Object, Object)}. Use {@link FieldMutator} to get informative
+     * error messages.
+     *
+     * @param object   The instance on which to re-assign the field.
+     * @param newValue The value to assign to the field.
+     * @throws IllegalAccessException If the field can't be assigned.
+     */
+    public void set(Object object, Object newValue) throws IllegalAccessException {
+        if (!setterResolved) {
+            setter = accessible ? unreflectSetter(field) : null;
+            setterResolved = true;
+        }
+        MethodHandle handle = setter;
+        if (handle == null) {
+            field.setAccessible(true);
+            field.set(object, newValue);
+            return;
+        }
+        try {
+            handle.invokeExact(object, newValue);
+        }
+        catch (ClassCastException e) {
+            throw new IllegalArgumentException(cannotSet(newValue.getClass().getName()), e);
+        }
+        catch (NullPointerException e) {
+            if (newValue == null && field.getType().isPrimitive()) {
+                throw new IllegalArgumentException(cannotSet("null value"), e);
+            }
+            throw e;
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new ReflectionException(e.getMessage(), e);
+        }
+    }
+
+    private String cannotSet(String what) {
+        return "Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                + field.getName() + " to " + what;
+    }
+
+    private static boolean makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        }
+        catch (RuntimeException e) {
+            // The fallback will throw the same exception again, when the field is actually accessed.
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+            if (FieldProbe.of(field).isStatic()) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(GETTER_TYPE);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+            if (FieldProbe.of(field).isStatic()) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(SETTER_TYPE);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}
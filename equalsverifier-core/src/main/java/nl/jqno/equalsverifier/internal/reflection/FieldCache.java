@@ -67,6 +67,23 @@ public class FieldCache {
         return new HashSet<>(cache.keySet().stream().map(key -> key.fieldName).collect(Collectors.toSet()));
     }
 
+    /**
+     * Returns a new cache that contains the entries of this cache for the given fields. Changes to one cache don't
+     * affect the other.
+     *
+     * @param fieldNames The names of the fields whose entries should be copied.
+     * @return A new cache with the entries for the given fields.
+     */
+    public FieldCache copyOf(Set<String> fieldNames) {
+        var result = new FieldCache();
+        cache.forEach((key, tuple) -> {
+            if (fieldNames.contains(key.fieldName)) {
+                result.cache.put(key, tuple);
+            }
+        });
+        return result;
+    }
+
     static final class Key {
         private final String fieldName;
         private final TypeTag fieldType;
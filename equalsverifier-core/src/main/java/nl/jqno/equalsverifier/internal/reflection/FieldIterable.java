@@ -12,16 +12,12 @@ import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
 public final class FieldIterable implements Iterable<FieldProbe> {
 
     private final Class<?> type;
-    private final boolean includeSuperclasses;
-    private final boolean includeStatic;
-    private final boolean isKotlin;
+    private final Flavour flavour;
 
     /** Private constructor. Call {@link #of(Class)} or {@link #ofIgnoringSuper(Class)} instead. */
-    private FieldIterable(Class<?> type, boolean includeSuperclasses, boolean includeStatic, boolean isKotlin) {
+    private FieldIterable(Class<?> type, Flavour flavour) {
         this.type = type;
-        this.includeSuperclasses = includeSuperclasses;
-        this.includeStatic = includeStatic;
-        this.isKotlin = isKotlin;
+        this.flavour = flavour;
     }
 
     /**
@@ -32,7 +28,7 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      * @return A FieldIterable.
      */
     public static FieldIterable of(Class<?> type) {
-        return new FieldIterable(type, true, true, false);
+        return new FieldIterable(type, Flavour.ALL);
     }
 
     /**
@@ -43,7 +39,7 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      * @return A FieldIterable.
      */
     public static FieldIterable ofKotlin(Class<?> type) {
-        return new FieldIterable(type, true, true, true);
+        return new FieldIterable(type, Flavour.KOTLIN);
     }
 
     /**
@@ -54,7 +50,7 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      * @return A FieldIterable.
      */
     public static FieldIterable ofIgnoringSuper(Class<?> type) {
-        return new FieldIterable(type, false, true, false);
+        return new FieldIterable(type, Flavour.IGNORING_SUPER);
     }
 
     /**
@@ -65,7 +61,7 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      * @return A FieldIterable.
      */
     public static FieldIterable ofIgnoringStatic(Class<?> type) {
-        return new FieldIterable(type, true, false, false);
+        return new FieldIterable(type, Flavour.IGNORING_STATIC);
     }
 
     /**
@@ -76,7 +72,7 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      * @return A FieldIterable.
      */
     public static FieldIterable ofIgnoringSuperAndStatic(Class<?> type) {
-        return new FieldIterable(type, false, false, false);
+        return new FieldIterable(type, Flavour.IGNORING_SUPER_AND_STATIC);
     }
 
     /**
@@ -86,75 +82,91 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      */
     @Override
     public Iterator<FieldProbe> iterator() {
-        return createFieldList().iterator();
+        return flavour.fields.get(type).iterator();
     }
 
-    private List<FieldProbe> createFieldList() {
-        if (isKotlin) {
-            return createKotlinFieldList();
-        }
-        else {
-            return createJavaFieldList();
+    /*
+     * The field lists are determined once per class and flavour, and shared between all FieldIterables and all threads.
+     * The lists are immutable, so they can be handed out safely. They are kept in a PerClassCache, because superclasses
+     * are walked too, so JDK classes get lists as well.
+     */
+    private enum Flavour {
+        ALL(true, true, false),
+        KOTLIN(true, true, true),
+        IGNORING_SUPER(false, true, false),
+        IGNORING_STATIC(true, false, false),
+        IGNORING_SUPER_AND_STATIC(false, false, false);
+
+        private final PerClassCache<List<FieldProbe>> fields;
+
+        Flavour(boolean includeSuperclasses, boolean includeStatic, boolean isKotlin) {
+            this.fields = new PerClassCache<>(c -> {
+                var lister = new FieldLister(c, includeSuperclasses, includeStatic);
+                return List.copyOf(isKotlin ? lister.createKotlinFieldList() : lister.createJavaFieldList());
+            });
         }
     }
 
-    private List<FieldProbe> createJavaFieldList() {
-        var result = new ArrayList<FieldProbe>();
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
+    private record FieldLister(Class<?> type, boolean includeSuperclasses, boolean includeStatic) {
 
-        result.addAll(addFieldsFor(type));
-        return result;
-    }
+        private List<FieldProbe> createJavaFieldList() {
+            var result = new ArrayList<FieldProbe>();
 
-    private List<FieldProbe> createKotlinFieldList() {
-        var result = new ArrayList<FieldProbe>();
-        result.addAll(addFieldsFor(type));
-        var names = result.stream().map(FieldProbe::getName).collect(Collectors.toSet());
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                List<FieldProbe> superFields =
-                        addFieldsFor(c).stream().filter(p -> !names.contains(p.getName())).toList();
-                result.addAll(superFields);
-                superFields.stream().map(FieldProbe::getName).forEach(names::add);
+            if (includeSuperclasses) {
+                for (Class<?> c : SuperclassIterable.of(type)) {
+                    result.addAll(addFieldsFor(c));
+                }
             }
-        }
 
-        return result;
-    }
+            result.addAll(addFieldsFor(type));
+            return result;
+        }
 
-    private List<FieldProbe> addFieldsFor(Class<?> c) {
-        var fields = new ArrayList<FieldProbe>();
-        var statics = new ArrayList<FieldProbe>();
+        private List<FieldProbe> createKotlinFieldList() {
+            var result = new ArrayList<FieldProbe>();
+            result.addAll(addFieldsFor(type));
+            var names = result.stream().map(FieldProbe::getName).collect(Collectors.toSet());
+
+            if (includeSuperclasses) {
+                for (Class<?> c : SuperclassIterable.of(type)) {
+                    List<FieldProbe> superFields =
+                            addFieldsFor(c).stream().filter(p -> !names.contains(p.getName())).toList();
+                    result.addAll(superFields);
+                    superFields.stream().map(FieldProbe::getName).forEach(names::add);
+                }
+            }
 
-        for (Field field : c.getDeclaredFields()) {
-            FieldProbe probe = FieldProbe.of(field);
+            return result;
+        }
 
-            if (field.isSynthetic() && !KotlinScreen.isSyntheticKotlinDelegate(field)) {
-                continue;
-            }
-            if (probe.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
-                    || probe.getName().equals("__cobertura_counters")) {
-                continue;
+        private List<FieldProbe> addFieldsFor(Class<?> c) {
+            var fields = new ArrayList<FieldProbe>();
+            var statics = new ArrayList<FieldProbe>();
+
+            for (Field field : c.getDeclaredFields()) {
+                FieldProbe probe = FieldProbe.of(field);
+
+                if (field.isSynthetic() && !KotlinScreen.isSyntheticKotlinDelegate(field)) {
+                    continue;
+                }
+                if (probe.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
+                        || probe.getName().equals("__cobertura_counters")) {
+                    continue;
+                }
+
+                boolean isStatic = probe.isStatic();
+                if (isStatic && includeStatic) {
+                    statics.add(probe);
+                }
+                if (!isStatic) {
+                    fields.add(probe);
+                }
             }
 
-            boolean isStatic = probe.isStatic();
-            if (isStatic && includeStatic) {
-                statics.add(probe);
-            }
-            if (!isStatic) {
-                fields.add(probe);
-            }
+            var result = new ArrayList<FieldProbe>();
+            result.addAll(fields);
+            result.addAll(statics);
+            return result;
         }
-
-        var result = new ArrayList<FieldProbe>();
-        result.addAll(fields);
-        result.addAll(statics);
-        return result;
     }
 }
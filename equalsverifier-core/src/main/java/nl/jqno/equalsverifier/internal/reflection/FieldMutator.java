@@ -15,6 +15,7 @@ public class FieldMutator {
 
     private final FieldProbe probe;
     private final Field field;
+    private final FieldAccessor accessor;
 
     /**
      * Constructor.
@@ -22,8 +23,27 @@ public class FieldMutator {
      * @param probe A field probe pointing to the field to mutate.
      */
     public FieldMutator(FieldProbe probe) {
-        this.probe = probe;
-        this.field = probe.getField();
+        this(FieldAccessor.of(probe.getField()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param accessor An accessor for the field to mutate.
+     */
+    public FieldMutator(FieldAccessor accessor) {
+        this.probe = accessor.getProbe();
+        this.field = accessor.getField();
+        this.accessor = accessor;
+    }
+
+    /**
+     * Returns the field to mutate.
+     *
+     * @return The field to mutate.
+     */
+    public Field getField() {
+        return field;
     }
 
     /**
@@ -35,7 +55,6 @@ public class FieldMutator {
     public void setNewValue(Object object, Object newValue) {
         rethrow(() -> {
             if (probe.canBeModifiedReflectively()) {
-                field.setAccessible(true);
                 safelySetField(object, newValue);
             }
         });
@@ -43,7 +62,7 @@ public class FieldMutator {
 
     private void safelySetField(Object object, Object newValue) throws IllegalAccessException {
         try {
-            field.set(object, newValue);
+            accessor.set(object, newValue);
         }
         catch (IllegalAccessException e) {
             if (e.getMessage().contains("cannot set final field")) {
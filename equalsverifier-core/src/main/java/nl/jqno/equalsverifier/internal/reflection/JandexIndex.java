@@ -0,0 +1,61 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the names of the classes in a Jandex index, such as the {@code META-INF/jandex.idx} that the Jandex Maven and
+ * Gradle plugins generate at build time.
+ *
+ * <p>
+ * Jandex is an optional dependency, so it is accessed through reflection. If it isn't available, or if it can't read
+ * the index, the caller should scan for classes in the regular way.
+ */
+final class JandexIndex {
+
+    /** The location of a Jandex index, relative to the root of a classpath entry. */
+    static final String LOCATION = "META-INF/jandex.idx";
+
+    private static final String INDEX_READER = "org.jboss.jandex.IndexReader";
+
+    private JandexIndex() {}
+
+    /**
+     * Determines whether Jandex is available.
+     *
+     * @return Whether Jandex is available.
+     */
+    static boolean isAvailable() {
+        return Util.classForName(INDEX_READER) != null;
+    }
+
+    /**
+     * Reads the names of all classes in the given index.
+     *
+     * @param in The index.
+     * @return The fully qualified names of all classes in the index, or {@code null} if the index can't be read.
+     */
+    static List<String> classNames(InputStream in) {
+        try {
+            Class<?> readerType = Util.classForName(INDEX_READER);
+            if (readerType == null) {
+                return null;
+            }
+            Object reader = readerType.getConstructor(InputStream.class).newInstance(in);
+            Object index = readerType.getMethod("read").invoke(reader);
+            Collection<?> classInfos = (Collection<?>) index.getClass().getMethod("getKnownClasses").invoke(index);
+
+            var result = new ArrayList<String>();
+            for (Object classInfo : classInfos) {
+                result.add(classInfo.getClass().getMethod("name").invoke(classInfo).toString());
+            }
+            return result;
+        }
+        catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // For instance, because the index was written by a newer version of Jandex than the one that's available.
+            return null;
+        }
+    }
+}
@@ -2,22 +2,36 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCaches;
 import nl.jqno.equalsverifier.internal.util.Validations;
 
-/** Scans a package for classes. */
+/**
+ * Scans a package for classes.
+ *
+ * <p>
+ * Candidates are filtered on their class files first, so classes that won't be returned are never loaded. Classes that
+ * are returned, are loaded without being initialized. If a classpath entry contains a Jandex index, the index is used
+ * instead of scanning the entry; for a directory, only if the index is still up to date.
+ */
 public final class PackageScanner {
 
+    private static final String CLASS_EXTENSION = ".class";
+
     /**
      * Do not instantiate.
      */
@@ -33,18 +47,18 @@ public final class PackageScanner {
      * @return the classes contained in the given package.
      */
     public static List<Class<?>> getClassesIn(String packageName, PackageScanOptions options) {
-        String packagePath = packageName.replace(".", FileSystems.getDefault().getSeparator());
+        String packagePath = packageName.replace('.', '/');
+        ClassLoader classLoader = PackageScanner.class.getClassLoader();
+        TypePool pool = AnnotationCaches.typePoolFor(classLoader);
 
         List<Class<?>> result = getResources(packagePath)
-                .flatMap(r -> processResource(r, packagePath, options))
-                .map(f -> fileToClass(f, packagePath))
-                .filter(c -> !c.isAnonymousClass())
-                .filter(c -> !c.isLocalClass())
-                .filter(c -> !c.getName().endsWith("Test"))
-                .filter(
-                    c -> options.mustExtend() == null
-                            || (options.mustExtend().isAssignableFrom(c) && !options.mustExtend().equals(c)))
+                .flatMap(r -> processResource(r, packageName, packagePath, options).stream())
                 .distinct()
+                .filter(n -> !n.endsWith("Test"))
+                .toList()
+                .parallelStream()
+                .map(n -> toClass(n, classLoader, pool, options))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList()); // Need a mutable List for the next validations
 
         Validations.validateTypesAreKnown(options.exceptClasses(), result);
@@ -60,56 +74,195 @@ public final class PackageScanner {
             e -> "Could not resolve package " + packagePath + ": " + e.getMessage());
     }
 
-    private static Stream<File> processResource(URL resource, String packagePath, PackageScanOptions options) {
+    private static List<String> processResource(
+            URL resource,
+            String packageName,
+            String packagePath,
+            PackageScanOptions options) {
         return rethrow(() -> switch (resource.toURI().getScheme()) {
-            case "file" -> processDirectory(resource, options.scanRecursively());
+            case "file" -> processDirectory(resource, packageName, packagePath, options.scanRecursively());
             case "jar" -> options.ignoreExternalJars()
-                    ? Stream.empty()
-                    : walkJar(resource, packagePath, options.scanRecursively());
+                    ? List.of()
+                    : walkJar(resource, packageName, packagePath, options.scanRecursively());
             default -> throw new ReflectionException(
                     "Could not resolve " + resource.toURI().getScheme() + " resource " + resource);
         }, e -> "Could not resolve resource " + resource + ": " + e.getMessage());
     }
 
-    private static Stream<File> processDirectory(URL resource, boolean scanRecursively) throws URISyntaxException {
-        String path = resource.toURI().getPath();
-        return walkDirectory(new File(path), scanRecursively);
+    private static List<String> processDirectory(
+            URL resource,
+            String packageName,
+            String packagePath,
+            boolean scanRecursively) throws URISyntaxException, IOException {
+        Path dir = Path.of(resource.toURI());
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        Path index = classpathRoot(dir, packagePath).resolve(JandexIndex.LOCATION);
+        if (Files.isRegularFile(index) && JandexIndex.isAvailable()) {
+            List<String> indexed = readIndex(index, packageName, scanRecursively);
+            if (indexed != null && isIndexCurrent(index, dir, indexed.size(), scanRecursively)) {
+                return indexed;
+            }
+        }
+        return walkDirectory(dir, packageName, scanRecursively);
+    }
+
+    private static List<String> readIndex(Path index, String packageName, boolean scanRecursively) throws IOException {
+        try (InputStream in = Files.newInputStream(index)) {
+            List<String> names = JandexIndex.classNames(in);
+            return names == null ? null : filterIndexedNames(names, packageName, scanRecursively);
+        }
     }
 
-    private static Stream<File> walkDirectory(File dir, boolean scanRecursively) {
-        if (!dir.exists()) {
-            return Stream.empty();
+    // Classes may have been compiled into the directory after the index was built. Such an index would miss them, so
+    // it's only used if it lists as many classes as there are class files, and if none of them is newer.
+    private static boolean isIndexCurrent(Path index, Path dir, int indexedCount, boolean scanRecursively)
+            throws IOException {
+        FileTime indexTime = Files.getLastModifiedTime(index);
+        List<Path> classFiles;
+        try (Stream<Path> s = scanRecursively ? Files.walk(dir) : Files.list(dir)) {
+            classFiles = s.filter(p -> isClassFile(p.getFileName().toString())).toList();
         }
-        return Arrays
-                .stream(dir.listFiles())
-                .filter(f -> (scanRecursively && f.isDirectory()) || f.getName().endsWith(".class"))
-                .flatMap(f -> f.isDirectory() ? walkDirectory(f, scanRecursively) : Stream.of(f));
+        return classFiles.size() == indexedCount
+                && classFiles
+                        .stream()
+                        .allMatch(p -> rethrow(() -> Files.getLastModifiedTime(p)).compareTo(indexTime) <= 0);
     }
 
-    private static Stream<File> walkJar(URL resource, String packagePath, boolean scanRecursively) throws IOException {
+    private static Path classpathRoot(Path dir, String packagePath) {
+        Path result = dir;
+        if (!packagePath.isEmpty()) {
+            for (int i = 0; i < packagePath.split("/").length && result.getParent() != null; i++) {
+                result = result.getParent();
+            }
+        }
+        return result;
+    }
+
+    private static List<String> walkDirectory(Path dir, String packageName, boolean scanRecursively) {
+        List<Path> entries = rethrow(() -> {
+            try (Stream<Path> s = Files.list(dir)) {
+                return s.sorted().toList();
+            }
+        }, e -> "Could not scan directory " + dir + ": " + e.getMessage());
+
+        var result = new ArrayList<String>();
+        entries
+                .stream()
+                .map(p -> p.getFileName().toString())
+                .filter(PackageScanner::isClassFile)
+                .map(f -> qualify(packageName, f.substring(0, f.length() - CLASS_EXTENSION.length())))
+                .forEach(result::add);
+
+        if (scanRecursively) {
+            entries
+                    .parallelStream()
+                    .filter(Files::isDirectory)
+                    .map(d -> walkDirectory(d, qualify(packageName, d.getFileName().toString()), true))
+                    .forEachOrdered(result::addAll);
+        }
+        return result;
+    }
+
+    private static List<String> walkJar(URL resource, String packageName, String packagePath, boolean scanRecursively)
+            throws IOException {
         String path = resource.getPath();
         String jar = path.substring(5, path.indexOf("!"));
         int packageSegments = packagePath.split("/").length;
         try (var file = new JarFile(jar)) {
+            var index = file.getJarEntry(JandexIndex.LOCATION);
+            if (index != null && JandexIndex.isAvailable()) {
+                try (InputStream in = file.getInputStream(index)) {
+                    List<String> names = JandexIndex.classNames(in);
+                    if (names != null) {
+                        return filterIndexedNames(names, packageName, scanRecursively);
+                    }
+                }
+            }
+
             return file
                     .stream()
                     .map(e -> e.getName())
-                    .filter(e -> e.endsWith(".class"))
                     .filter(e -> e.startsWith(packagePath))
+                    .filter(e -> isClassFile(e.substring(e.lastIndexOf('/') + 1)))
                     .filter(e -> scanRecursively || e.split("/").length == packageSegments + 1)
-                    .map(e -> new File(e))
-                    .toList()
-                    .stream();
+                    .map(e -> e.substring(0, e.length() - CLASS_EXTENSION.length()).replace('/', '.'))
+                    .toList();
         }
     }
 
-    private static Class<?> fileToClass(File f, String packagePath) {
-        String className = f.getName().substring(0, f.getName().length() - 6);
-        String fullPath = f.getParent();
-        String packageName =
-                fullPath.substring(fullPath.indexOf(packagePath)).replace(FileSystems.getDefault().getSeparator(), ".");
-        return rethrow(
-            () -> Class.forName(packageName + "." + className),
-            e -> "Could not resolve class " + className + ", which was found in package " + packageName);
+    private static List<String> filterIndexedNames(List<String> names, String packageName, boolean scanRecursively) {
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        return names
+                .stream()
+                .filter(n -> n.startsWith(prefix))
+                .filter(n -> scanRecursively || n.indexOf('.', prefix.length()) == -1)
+                .sorted()
+                .toList();
+    }
+
+    private static boolean isClassFile(String fileName) {
+        return fileName.endsWith(CLASS_EXTENSION)
+                && !"module-info.class".equals(fileName)
+                && !"package-info.class".equals(fileName);
+    }
+
+    private static String qualify(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private static Class<?> toClass(
+            String className,
+            ClassLoader classLoader,
+            TypePool pool,
+            PackageScanOptions options) {
+        Verdict verdict = prefilter(className, pool, options);
+        if (verdict == Verdict.EXCLUDE) {
+            return null;
+        }
+
+        Class<?> type = rethrow(
+            () -> Class.forName(className, false, classLoader),
+            e -> "Could not resolve class " + className + ", which was found in package "
+                    + className.substring(0, Math.max(0, className.lastIndexOf('.'))));
+        if (verdict == Verdict.UNKNOWN && !matches(type, options)) {
+            return null;
+        }
+        return type;
+    }
+
+    private static Verdict prefilter(String className, TypePool pool, PackageScanOptions options) {
+        try {
+            var resolution = pool.describe(className);
+            if (!resolution.isResolved()) {
+                return Verdict.UNKNOWN;
+            }
+            TypeDescription description = resolution.resolve();
+            if (description.isAnonymousType() || description.isLocalType()) {
+                return Verdict.EXCLUDE;
+            }
+            Class<?> mustExtend = options.mustExtend();
+            boolean extendsCorrectly = mustExtend == null
+                    || (description.isAssignableTo(mustExtend) && !description.represents(mustExtend));
+            return extendsCorrectly ? Verdict.INCLUDE : Verdict.EXCLUDE;
+        }
+        catch (RuntimeException e) {
+            // A supertype can't be found in the class files; we'll load the class to find out.
+            return Verdict.UNKNOWN;
+        }
+    }
+
+    private static boolean matches(Class<?> type, PackageScanOptions options) {
+        if (type.isAnonymousClass() || type.isLocalClass()) {
+            return false;
+        }
+        Class<?> mustExtend = options.mustExtend();
+        return mustExtend == null || (mustExtend.isAssignableFrom(type) && !mustExtend.equals(type));
+    }
+
+    private enum Verdict {
+        INCLUDE, EXCLUDE, UNKNOWN
     }
 }
@@ -0,0 +1,90 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Computes a value once per class, without keeping any classloader alive that would otherwise be unloaded.
+ *
+ * <p>
+ * Where the value is stored depends on the classloader of the class:
+ * <ul>
+ * <li>If it's EqualsVerifier's own classloader or one of its children, the value is stored in a {@link ClassValue} on
+ * the class. Such a class already keeps EqualsVerifier's classloader alive, so the value can't keep anything alive that
+ * wasn't already.</li>
+ * <li>If it's one of the parents of EqualsVerifier's classloader, such as the JDK's, the value is stored in a map that
+ * belongs to EqualsVerifier. Storing it on the class instead would keep EqualsVerifier's classloader alive for as long
+ * as the class exists (see JDK-8136353), and those classes outlive EqualsVerifier anyway.</li>
+ * <li>Otherwise, the value isn't stored at all, and is computed again each time.</li>
+ * </ul>
+ *
+ * @param <V> The type of the values.
+ */
+public final class PerClassCache<V> {
+
+    private static final ClassLoader OWN_LOADER = PerClassCache.class.getClassLoader();
+
+    private final Function<Class<?>, V> compute;
+    private final ClassValue<V> own;
+    private final Map<Class<?>, V> parents = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param compute Computes the value for a class. It may be called more than once for the same class.
+     */
+    public PerClassCache(Function<Class<?>, V> compute) {
+        this.compute = compute;
+        this.own = new ClassValue<>() {
+            @Override
+            protected V computeValue(Class<?> type) {
+                return compute.apply(type);
+            }
+        };
+    }
+
+    /**
+     * Returns the value for the given class, computing it if it isn't stored yet.
+     *
+     * @param type The class to get the value for.
+     * @return The value for {@code type}.
+     */
+    public V get(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (isSameOrAncestor(OWN_LOADER, loader)) {
+            return own.get(type);
+        }
+        if (isSameOrAncestor(loader, OWN_LOADER)) {
+            // Not computeIfAbsent, because computing a value may need the value of another class from this cache.
+            V result = parents.get(type);
+            if (result == null) {
+                result = compute.apply(type);
+                V existing = parents.putIfAbsent(type, result);
+                return existing == null ? result : existing;
+            }
+            return result;
+        }
+        return compute.apply(type);
+    }
+
+    /**
+     * Determines whether a class loaded by {@code descendant} can see the classes loaded by {@code ancestor}, because
+     * it's the same classloader or one of its parents.
+     *
+     * @param ancestor   The potential ancestor; {@code null} for the bootstrap classloader.
+     * @param descendant The potential descendant; {@code null} for the bootstrap classloader.
+     * @return Whether {@code ancestor} is {@code descendant} or one of its parents.
+     */
+    public static boolean isSameOrAncestor(ClassLoader ancestor, ClassLoader descendant) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader l = descendant; l != null; l = l.getParent()) {
+            if (l == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
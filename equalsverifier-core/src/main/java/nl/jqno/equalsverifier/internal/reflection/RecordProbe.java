@@ -2,14 +2,32 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
 public class RecordProbe<T> {
 
+    // Looking up the canonical constructor and turning it into a MethodHandle is expensive, and records are
+    // instantiated a lot, so we do it only once per record type.
+    private static final ClassValue<CanonicalConstructor> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected CanonicalConstructor computeValue(Class<?> type) {
+            return new CanonicalConstructor(type);
+        }
+    };
+
     private final Class<T> type;
 
     public RecordProbe(Class<T> type) {
@@ -21,17 +39,46 @@ public class RecordProbe<T> {
     }
 
     public T callRecordConstructor(List<?> params) {
-        Constructor<T> constructor = getRecordConstructor();
-        return rethrow(() -> constructor.newInstance(params.toArray(new Object[0])), e -> buildMessage(e, params));
+        return callRecordConstructor(params.toArray());
+    }
+
+    /**
+     * Calls the record's canonical constructor with the values in the given vector, which should belong to the record.
+     * Slots without a value get their field's default value.
+     *
+     * @param values The values for the record's fields.
+     * @return A new instance of the record.
+     */
+    public T callRecordConstructor(ValueVector values) {
+        int[] slots = canonical().slots;
+        var params = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            params[i] = values.getOrDefault(slots[i]);
+        }
+        return callRecordConstructor(params);
+    }
+
+    private T callRecordConstructor(Object[] params) {
+        CanonicalConstructor canonical = canonical();
+        if (!canonical.accepts(params)) {
+            // The handle would reject the parameters before calling the constructor. Let reflection reject them
+            // instead, so we get the same exception as we would without the handle.
+            return rethrow(
+                () -> type.cast(canonical.constructor.newInstance(params)),
+                e -> buildMessage(e, Arrays.asList(params)));
+        }
+        try {
+            return type.cast(canonical.handle.invokeExact(params));
+        }
+        catch (Throwable t) {
+            // The constructor itself threw. Wrap it the same way reflection would.
+            var e = new InvocationTargetException(t);
+            throw new ReflectionException(buildMessage(e, Arrays.asList(params)), e);
+        }
     }
 
-    private Constructor<T> getRecordConstructor() {
-        return rethrow(() -> {
-            List<Class<?>> constructorTypes = fields().map(FieldProbe::getType).collect(Collectors.toList());
-            Constructor<T> result = type.getDeclaredConstructor(constructorTypes.toArray(new Class<?>[0]));
-            result.setAccessible(true);
-            return result;
-        });
+    private CanonicalConstructor canonical() {
+        return rethrow(() -> CONSTRUCTORS.get(type));
     }
 
     private String buildMessage(Throwable e, List<?> params) {
@@ -47,4 +94,80 @@ public class RecordProbe<T> {
                 + " consider providing prefab values for the types of those fields.";
         return msg;
     }
+
+    /**
+     * The canonical constructor of a record, as a {@link MethodHandle} that takes all parameters in a single
+     * {@code Object[]} and unboxes them where needed, together with the slot in the record's {@link ValueVector} of
+     * each parameter.
+     */
+    private static final class CanonicalConstructor {
+        // The primitive types that a boxed value can be passed to, by unboxing and then widening it. Both reflection
+        // and MethodHandle.asType accept these, and reject everything else before the constructor is called.
+        private static final Map<Class<?>, Set<Class<?>>> WIDENINGS = Map
+                .of(
+                    Boolean.class,
+                    Set.of(boolean.class),
+                    Byte.class,
+                    Set.of(byte.class, short.class, int.class, long.class, float.class, double.class),
+                    Short.class,
+                    Set.of(short.class, int.class, long.class, float.class, double.class),
+                    Character.class,
+                    Set.of(char.class, int.class, long.class, float.class, double.class),
+                    Integer.class,
+                    Set.of(int.class, long.class, float.class, double.class),
+                    Long.class,
+                    Set.of(long.class, float.class, double.class),
+                    Float.class,
+                    Set.of(float.class, double.class),
+                    Double.class,
+                    Set.of(double.class));
+
+        private final Constructor<?> constructor;
+        private final Class<?>[] parameterTypes;
+        private final MethodHandle handle;
+        private final int[] slots;
+
+        private CanonicalConstructor(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            this.parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            this.constructor = rethrow(() -> type.getDeclaredConstructor(parameterTypes));
+            constructor.setAccessible(true);
+            this.handle = rethrow(
+                () -> MethodHandles
+                        .lookup()
+                        .unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, parameterTypes.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class)));
+
+            var plan = AccessorPlan.of(type);
+            this.slots = new int[components.length];
+            for (int i = 0; i < components.length; i++) {
+                var name = components[i].getName();
+                var field = rethrow(() -> type.getDeclaredField(name));
+                slots[i] = plan.slotOf(field);
+            }
+        }
+
+        private boolean accepts(Object[] params) {
+            if (params.length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < params.length; i++) {
+                if (!fits(parameterTypes[i], params[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean fits(Class<?> parameterType, Object param) {
+            if (param == null) {
+                return !parameterType.isPrimitive();
+            }
+            if (parameterType.isPrimitive()) {
+                return WIDENINGS.getOrDefault(param.getClass(), Set.of()).contains(parameterType);
+            }
+            return parameterType.isInstance(param);
+        }
+    }
 }
@@ -5,15 +5,18 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 import java.lang.invoke.MethodHandles;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import nl.jqno.equalsverifier.internal.exceptions.NoValueException;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 import nl.jqno.equalsverifier.internal.valueproviders.Attributes;
 import nl.jqno.equalsverifier.internal.valueproviders.ValueProvider;
 
@@ -26,6 +29,12 @@ public final class SubtypeManager {
             Arrays.asList("java.", "javax.", "sun.", "com.sun.", "org.w3c.dom.");
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(SubtypeManager.class);
 
+    // Generating the same subclass twice at the same time would make the second definition fail, but different
+    // subclasses can be generated in parallel. Striping the locks by name gives us both.
+    private static final Object[] LOCKS = createLocks(64);
+
+    private static final DynamicSubclassCache CACHE = DynamicSubclassCache.fromSystemProperty();
+
     private SubtypeManager() {
         // Do not instantiate
     }
@@ -66,39 +75,122 @@ public final class SubtypeManager {
     /**
      * Generates an anonymous subclass of S. The subclass is generated dynamically.
      *
+     * <p>
+     * If the on-disk class cache is enabled, subclasses with the same superclass and the same {@code nameSuffix} are
+     * assumed to have the same modifications, so use a different suffix for each different modification.
+     *
      * @param <S>        The class to create a dynamic subclass of.
      * @param superclass The class to create a dynamic subclass of.
      * @param nameSuffix A constant that will be appended to the name of the newly generated class.
      * @param modify     Allows custom modifications to the generated class.
      * @return An instance of an anonymous subclass of S.
      */
-    @SuppressWarnings("unchecked")
-    public static synchronized <S> Class<S> giveDynamicSubclass(
+    public static <S> Class<S> giveDynamicSubclass(
             Class<S> superclass,
             String nameSuffix,
             UnaryOperator<DynamicType.Builder<S>> modify) {
-        boolean isSystemClass = isSystemClass(superclass.getName());
+        return giveDynamicSubclass(superclass, nameSuffix, modify, CACHE);
+    }
+
+    /* package protected for unit test */
+    static <S> Class<S> giveDynamicSubclass(
+            Class<S> superclass,
+            String nameSuffix,
+            UnaryOperator<DynamicType.Builder<S>> modify,
+            DynamicSubclassCache cache) {
+        if (cache != null) {
+            // The name must be the same in every run, so we can't use the superclass's identity hash code.
+            String hash = Integer.toHexString(superclass.getName().hashCode());
+            Class<S> result = giveDynamicSubclass(superclass, nameSuffix, hash, modify, cache);
+            if (result != null) {
+                return result;
+            }
+        }
+        String hash = Integer.toHexString(superclass.hashCode());
+        return giveDynamicSubclass(superclass, nameSuffix, hash, modify, null);
+    }
 
-        String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
-        String name = namePrefix + (namePrefix.isEmpty() ? "" : ".") + superclass.getSimpleName() + "$$DynamicSubclass$"
-                + Integer.toHexString(superclass.hashCode()) + "$" + nameSuffix;
+    private static <S> Class<S> giveDynamicSubclass(
+            Class<S> superclass,
+            String nameSuffix,
+            String hash,
+            UnaryOperator<DynamicType.Builder<S>> modify,
+            DynamicSubclassCache cache) {
+        String name = dynamicSubclassName(superclass, nameSuffix, hash);
+        Class<?> context = isSystemClass(superclass.getName()) ? SubtypeManager.class : superclass;
+        synchronized (LOCKS[Math.floorMod(name.hashCode(), LOCKS.length)]) {
+            return defineDynamicSubclass(superclass, nameSuffix, name, context, modify, cache);
+        }
+    }
+
+    /* package protected for unit test */
+    static String dynamicSubclassName(Class<?> superclass, String nameSuffix, String hash) {
+        String namePrefix = isSystemClass(superclass.getName()) ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
+        return namePrefix + (namePrefix.isEmpty() ? "" : ".") + superclass.getSimpleName() + "$$DynamicSubclass$" + hash
+                + "$" + nameSuffix;
+    }
 
-        Class<?> context = isSystemClass ? SubtypeManager.class : superclass;
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> defineDynamicSubclass(
+            Class<S> superclass,
+            String nameSuffix,
+            String name,
+            Class<?> context,
+            UnaryOperator<DynamicType.Builder<S>> modify,
+            DynamicSubclassCache cache) {
         ClassLoader classLoader = context.getClassLoader();
 
         // `mvn quarkus:dev` does strange classloader stuff. We need to make sure that we
         // check existence with the correct classloader. I don't know how to unit test this.
         Class<S> existsAlready = (Class<S>) classForName(classLoader, name);
         if (existsAlready != null) {
-            return existsAlready;
+            // With a cached name, a same-named class may have been generated for a same-named superclass from
+            // another classloader. In that case, we fall back to the uncached name.
+            return cache == null || superclass.isAssignableFrom(existsAlready) ? existsAlready : null;
         }
 
+        // Computing the key means reading the bytecode of all supertypes, so only do it if we have to.
+        String key = cache == null ? null : cache.keyFor(superclass, nameSuffix);
         ClassLoadingStrategy<ClassLoader> cs = getClassLoadingStrategy(context);
+        if (key != null) {
+            Class<S> cached = loadCachedDynamicSubclass(cache.load(key), name, classLoader, cs);
+            if (cached != null) {
+                TimingRecorder.countDynamicSubclass();
+                return cached;
+            }
+        }
+
         DynamicType.Builder<S> builder = new ByteBuddy().with(TypeValidation.DISABLED).subclass(superclass).name(name);
 
         builder = modify.apply(builder);
 
-        return (Class<S>) builder.make().load(classLoader, cs).getLoaded();
+        DynamicType.Unloaded<S> unloaded = builder.make();
+        if (key != null && unloaded.getAuxiliaryTypes().isEmpty() && !unloaded.hasAliveLoadedTypeInitializers()) {
+            cache.store(key, unloaded.getBytes());
+        }
+        TimingRecorder.countDynamicSubclass();
+        return (Class<S>) unloaded.load(classLoader, cs).getLoaded();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> loadCachedDynamicSubclass(
+            byte[] bytes,
+            String name,
+            ClassLoader classLoader,
+            ClassLoadingStrategy<ClassLoader> cs) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            var description = new TypeDescription.Latent(name,
+                    0,
+                    TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(Object.class));
+            return (Class<S>) cs.load(classLoader, Map.of(description, bytes)).get(description);
+        }
+        catch (LinkageError | RuntimeException e) {
+            // The cached class is corrupt or no longer fits the superclass; generate a new one instead.
+            return null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -156,6 +248,14 @@ public final class SubtypeManager {
         }
     }
 
+    private static Object[] createLocks(int count) {
+        var result = new Object[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new Object();
+        }
+        return result;
+    }
+
     private static boolean isSystemClass(String className) {
         for (String prefix : FORBIDDEN_PACKAGES) {
             if (className.startsWith(prefix)) {
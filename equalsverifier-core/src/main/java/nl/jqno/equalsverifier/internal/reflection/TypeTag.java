@@ -4,6 +4,7 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinProbe;
@@ -20,6 +21,11 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
     /** Null object for TypeTag. */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    // Stored per enclosing type, and only when every class that an entry refers to is visible from the enclosing type's
+    // classloader, so an entry never keeps a classloader alive that the enclosing type doesn't already keep alive.
+    private static final PerClassCache<Map<FieldInContext, TypeTag>> RESOLVED =
+            new PerClassCache<>(c -> new ConcurrentHashMap<>());
+
     /**
      * Constructor.
      *
@@ -53,19 +59,51 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
+        // TypeTags are immutable, so the result can be shared by everyone who asks for the same field in the same type.
+        ClassLoader loader = enclosingType.getType().getClassLoader();
+        if (!isVisibleFrom(field.getDeclaringClass(), loader) || !isVisibleFrom(enclosingType, loader)) {
+            return resolveField(field, enclosingType);
+        }
+        var cache = RESOLVED.get(enclosingType.getType());
+        var key = new FieldInContext(field, enclosingType);
+        TypeTag result = cache.get(key);
+        if (result == null) {
+            result = resolveField(field, enclosingType);
+            cache.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    private static boolean isVisibleFrom(TypeTag tag, ClassLoader loader) {
+        if (!isVisibleFrom(tag.getType(), loader)) {
+            return false;
+        }
+        for (TypeTag t : tag.genericTypes()) {
+            if (!isVisibleFrom(t, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisibleFrom(Class<?> type, ClassLoader loader) {
+        return PerClassCache.isSameOrAncestor(type.getClassLoader(), loader);
+    }
+
+    private static TypeTag resolveField(Field field, TypeTag enclosingType) {
         if (KotlinScreen.isKotlin(enclosingType.getType()) && KotlinScreen.isKotlinLazy(field)) {
             var opt = KotlinProbe.determineLazyType(enclosingType.getType(), field);
             if (opt.isPresent()) {
                 return opt.get();
             }
         }
-        return resolve(field.getGenericType(), field.getType(), enclosingType, false);
+        return resolve(field.getGenericType(), field.getType(), buildLookup(enclosingType), false);
     }
 
     private static TypeTag resolve(
             Type type,
             Class<?> typeAsClass,
-            TypeTag enclosingType,
+            Map<String, TypeTag> lookup,
             boolean shortCircuitRecursiveTypeBound) {
         var nestedTags = new ArrayList<TypeTag>();
         if (type instanceof Class<?> cls) {
@@ -75,18 +113,18 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
             return processParameterizedType(
                 parameterizedType,
                 typeAsClass,
-                enclosingType,
+                lookup,
                 nestedTags,
                 shortCircuitRecursiveTypeBound);
         }
         if (type instanceof GenericArrayType arrayType) {
-            return processGenericArray(arrayType, typeAsClass, enclosingType);
+            return processGenericArray(arrayType, typeAsClass, lookup);
         }
         if (type instanceof WildcardType wildcardType) {
-            return processWildcard(wildcardType, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound);
+            return processWildcard(wildcardType, typeAsClass, lookup, shortCircuitRecursiveTypeBound);
         }
         if (type instanceof TypeVariable<?> variable) {
-            return processTypeVariable(variable, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound);
+            return processTypeVariable(variable, typeAsClass, lookup, shortCircuitRecursiveTypeBound);
         }
         throw new EqualsVerifierInternalBugException(
                 "Failed to tag type " + type.toString() + " (" + type.getClass() + ")");
@@ -99,18 +137,21 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
     private static TypeTag processParameterizedType(
             ParameterizedType type,
             Class<?> typeAsClass,
-            TypeTag enclosingType,
+            Map<String, TypeTag> lookup,
             List<TypeTag> nestedTags,
             boolean shortCircuitRecursiveTypeBound) {
         Type[] typeArgs = type.getActualTypeArguments();
         for (Type typeArg : typeArgs) {
-            nestedTags.add(resolve(typeArg, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound));
+            nestedTags.add(resolve(typeArg, typeAsClass, lookup, shortCircuitRecursiveTypeBound));
         }
         return new TypeTag((Class<?>) type.getRawType(), nestedTags);
     }
 
-    private static TypeTag processGenericArray(GenericArrayType type, Class<?> typeAsClass, TypeTag enclosingType) {
-        TypeTag tag = resolve(type.getGenericComponentType(), typeAsClass, enclosingType, false);
+    private static TypeTag processGenericArray(
+            GenericArrayType type,
+            Class<?> typeAsClass,
+            Map<String, TypeTag> lookup) {
+        TypeTag tag = resolve(type.getGenericComponentType(), typeAsClass, lookup, false);
         String arrayTypeName = "[L" + tag.getType().getName() + ";";
         Class<?> arrayType = classForName(arrayTypeName);
         return new TypeTag(arrayType, tag.genericTypes());
@@ -119,13 +160,13 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
     private static TypeTag processWildcard(
             WildcardType type,
             Class<?> typeAsClass,
-            TypeTag enclosingType,
+            Map<String, TypeTag> lookup,
             boolean shortCircuitRecursiveTypeBound) {
         for (Type b : type.getLowerBounds()) {
-            return resolve(b, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound);
+            return resolve(b, typeAsClass, lookup, shortCircuitRecursiveTypeBound);
         }
         for (Type b : type.getUpperBounds()) {
-            TypeTag upper = resolve(b, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound);
+            TypeTag upper = resolve(b, typeAsClass, lookup, shortCircuitRecursiveTypeBound);
             if (!Object.class.equals(upper.getType())) {
                 return upper;
             }
@@ -133,7 +174,7 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
         for (TypeVariable<?> tv : typeAsClass.getTypeParameters()) {
             for (Type b : tv.getBounds()) {
                 if (!shortCircuitRecursiveTypeBound) {
-                    TypeTag result = resolve(b, typeAsClass, enclosingType, true);
+                    TypeTag result = resolve(b, typeAsClass, lookup, true);
                     // The result fills a slot inside typeAsClass, so if it equals typeAsClass,
                     // we have a self-referential cycle (e.g. Enum<E extends Enum<E>>): use Object.
                     if (result.getType().equals(typeAsClass)) {
@@ -149,16 +190,15 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
     private static TypeTag processTypeVariable(
             TypeVariable<?> type,
             Class<?> typeAsClass,
-            TypeTag enclosingType,
+            Map<String, TypeTag> lookup,
             boolean shortCircuitRecursiveTypeBound) {
-        Map<String, TypeTag> typeVariableLookup = buildLookup(enclosingType);
-        String typeVariableName = type.getName();
-        if (typeVariableLookup.containsKey(typeVariableName)) {
-            return typeVariableLookup.get(typeVariableName);
+        TypeTag known = lookup.get(type.getName());
+        if (known != null) {
+            return known;
         }
         for (Type b : type.getBounds()) {
             if (!shortCircuitRecursiveTypeBound) {
-                return resolve(b, typeAsClass, enclosingType, true);
+                return resolve(b, typeAsClass, lookup, true);
             }
         }
         return new TypeTag(Object.class);
@@ -209,5 +249,7 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
         return s.toString();
     }
 
+    private record FieldInContext(Field field, TypeTag enclosingType) {}
+
     private static final class NullType {}
 }
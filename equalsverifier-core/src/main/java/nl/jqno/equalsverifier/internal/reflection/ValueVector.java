@@ -0,0 +1,121 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds a value for each non-static field of a class, in the order of its {@link AccessorPlan}. Each field has a fixed
+ * slot, so filling an instance with the values is a matter of walking an array, without having to look up any fields.
+ *
+ * <p>
+ * A slot that holds null stands for the field's default value: null for object references, 0 for numbers, false for
+ * booleans.
+ */
+public final class ValueVector {
+
+    private final AccessorPlan plan;
+    private final Object[] values;
+
+    private ValueVector(AccessorPlan plan) {
+        this.plan = plan;
+        this.values = new Object[plan.instanceFields().size()];
+    }
+
+    /**
+     * Creates a vector in which every field of the given class has its default value.
+     *
+     * @param type The class whose fields the vector holds values for.
+     * @return A new {@link ValueVector}.
+     */
+    public static ValueVector of(Class<?> type) {
+        return new ValueVector(AccessorPlan.of(type));
+    }
+
+    /**
+     * Returns the plan that determines the slots of the vector.
+     *
+     * @return The plan that determines the slots of the vector.
+     */
+    public AccessorPlan plan() {
+        return plan;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return The number of slots.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the field that belongs to the given slot.
+     *
+     * @param slot The slot.
+     * @return The field that belongs to the slot.
+     */
+    public Field field(int slot) {
+        return plan.instanceFields().get(slot).getField();
+    }
+
+    /**
+     * Returns the value in the given slot.
+     *
+     * @param slot The slot.
+     * @return The value in the slot; null if the field should get its default value.
+     */
+    public Object get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Returns the value in the given slot, or, if there is none, the default value of the field's type.
+     *
+     * @param slot The slot.
+     * @return The value in the slot, or the default value of the field's type.
+     */
+    public Object getOrDefault(int slot) {
+        Object result = values[slot];
+        return result == null ? plan.defaultValues()[slot] : result;
+    }
+
+    /**
+     * Puts a value in the given slot.
+     *
+     * @param slot  The slot.
+     * @param value The value; null if the field should get its default value.
+     */
+    public void set(int slot, Object value) {
+        values[slot] = value;
+    }
+
+    /**
+     * Returns the values in the order of their slots, with default values for the slots that don't have a value.
+     *
+     * @return The values in the order of their slots.
+     */
+    public Object[] toArrayWithDefaults() {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = getOrDefault(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values as a map from field to value, for code that needs to look them up by field.
+     *
+     * @return The values as a map.
+     */
+    public Map<Field, Object> toMap() {
+        List<FieldAccessor> fields = plan.instanceFields();
+        var result = new HashMap<Field, Object>();
+        for (int i = 0; i < values.length; i++) {
+            result.put(fields.get(i).getField(), values[i]);
+        }
+        return result;
+    }
+}
@@ -32,7 +32,7 @@ public class AnnotationCacheBuilder {
         }
 
         try {
-            TypePool pool = TypePool.Default.of(type.getClassLoader());
+            TypePool pool = AnnotationCaches.typePoolFor(type.getClassLoader());
             TypeDescription typeDescription = pool.describe(type.getName()).resolve();
 
             visitType(Set.of(type), cache, typeDescription, false);
@@ -0,0 +1,84 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+/**
+ * Keeps the results of parsing class files for annotations around for the lifetime of the JVM, so that verifying many
+ * classes that share superclasses, outer classes or packages doesn't parse those over and over again.
+ *
+ * <p>
+ * Both caches are bounded, so they can't hold on to an unlimited number of classes or classloaders. The parsed type
+ * descriptions are held through soft references, so the garbage collector can reclaim them if memory gets tight.
+ */
+public final class AnnotationCaches {
+
+    private static final int MAX_TYPE_POOLS = 16;
+    private static final int MAX_ANNOTATION_CACHES = 2048;
+
+    private static final Map<ClassLoader, TypePool> TYPE_POOLS = boundedMap(MAX_TYPE_POOLS);
+    private static final Map<Key, AnnotationCache> ANNOTATION_CACHES = boundedMap(MAX_ANNOTATION_CACHES);
+
+    private AnnotationCaches() {}
+
+    /**
+     * Returns an {@link AnnotationCache} that contains the supported annotations for the given type.
+     *
+     * <p>
+     * Because {@link AnnotationCacheBuilder} adds annotations to the cache entries of the type's superclasses as well,
+     * the whole cache depends on the type it was built for, and on the annotations that are ignored. Therefore, the
+     * cache is shared only between verifications of the same type with the same ignored annotations. The returned cache
+     * must not be modified.
+     *
+     * @param type               The type to build an {@link AnnotationCache} for.
+     * @param ignoredAnnotations The fully qualified names of annotations that should be ignored.
+     * @return An {@link AnnotationCache} for the given type.
+     */
+    public static AnnotationCache of(Class<?> type, Set<String> ignoredAnnotations) {
+        var key = new Key(type, Set.copyOf(ignoredAnnotations));
+        AnnotationCache cached = ANNOTATION_CACHES.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Build outside the lock; if two threads build the same cache at the same time, they'll build the same thing.
+        var builder = new AnnotationCacheBuilder(SupportedAnnotations.values(), ignoredAnnotations);
+        var cache = new AnnotationCache();
+        builder.build(type, cache);
+        ANNOTATION_CACHES.put(key, cache);
+        return cache;
+    }
+
+    /**
+     * Returns a {@link TypePool} for the given classloader, which is shared between all types loaded by it.
+     *
+     * @param classLoader The classloader to find class files with, or null for the bootstrap classloader.
+     * @return A {@link TypePool} for the given classloader.
+     */
+    public static TypePool typePoolFor(ClassLoader classLoader) {
+        return TYPE_POOLS
+                .computeIfAbsent(
+                    classLoader,
+                    cl -> new TypePool.Default(new TypePool.CacheProvider.Simple.UsingSoftReference(),
+                            ClassFileLocator.ForClassLoader.of(cl),
+                            TypePool.Default.ReaderMode.FAST));
+    }
+
+    private static <K, V> Map<K, V> boundedMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record Key(Class<?> type, Set<String> ignoredAnnotations) {}
+}
@@ -29,11 +29,23 @@ public final class KotlinScreen {
             .map(type -> Util.<Annotation>classForName(type))
             .collect(Collectors.toSet());
 
+    // Kotlin classes are detected by their annotations, which never change, so each class only needs to be checked once.
+    private static final ClassValue<Boolean> IS_KOTLIN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return hasKotlinAnnotation(type);
+        }
+    };
+
     public static boolean canProbe() {
         return K_CLASSES != null;
     }
 
     public static boolean isKotlin(Class<?> type) {
+        return IS_KOTLIN.get(type);
+    }
+
+    private static boolean hasKotlinAnnotation(Class<?> type) {
         // We can't use the `AnnotationCache` here because we need to check for Kotlin before the `AnnotationCache`
         // has been built. Fortunately, the check involves an annotation that doesn't need ASM to be detected.
         for (var annotation : KOTLIN_ANNOTATIONS) {
@@ -49,7 +49,7 @@ public record Configuration<T>(Class<T> type, TypeTag typeTag, InstanceFactory<T
             List<T> equalExamples,
             List<T> unequalExamples) {
         TypeTag typeTag = new TypeTag(type);
-        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationClassNames);
+        AnnotationCache annotationCache = AnnotationCaches.of(type, ignoredAnnotationClassNames);
         Set<String> ignoredFields = determineIgnoredFields(
             type,
             annotationCache,
@@ -96,14 +96,6 @@ public record Configuration<T>(Class<T> type, TypeTag typeTag, InstanceFactory<T
                 unequalExamples);
     }
 
-    private static <T> AnnotationCache buildAnnotationCache(Class<T> type, Set<String> ignoredAnnotationClassNames) {
-        AnnotationCacheBuilder acb =
-                new AnnotationCacheBuilder(SupportedAnnotations.values(), ignoredAnnotationClassNames);
-        AnnotationCache cache = new AnnotationCache();
-        acb.build(type, cache);
-        return cache;
-    }
-
     private static <T> Set<String> determineIgnoredFields(
             Class<T> type,
             AnnotationCache annotationCache,
@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.util;
 import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.valueproviders.SharedValueCache;
 import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
 import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
 import nl.jqno.equalsverifier.internal.valueproviders.ValueProvider;
@@ -17,23 +18,59 @@ public final class Context<T> {
     private final SubjectCreator<T> subjectCreator;
     private final ValueProvider valueProvider;
 
+    private final UserPrefabValueCaches userPrefabs;
+    private final FieldCache prefabFields;
+    private final Objenesis objenesis;
+    private final SharedValueCache sharedValues;
+
     public Context(
             Configuration<T> configuration,
             UserPrefabValueCaches userPrefabs,
             FieldCache fieldCache,
             Objenesis objenesis) {
+        this(configuration, userPrefabs, fieldCache, objenesis, null);
+    }
+
+    public Context(
+            Configuration<T> configuration,
+            UserPrefabValueCaches userPrefabs,
+            FieldCache fieldCache,
+            Objenesis objenesis,
+            SharedValueCache sharedValues) {
         this.type = configuration.type();
         this.configuration = configuration;
         this.classProbe = ClassProbe.of(configuration.type());
+        this.userPrefabs = userPrefabs;
+        // Taken before any values are provided, so it contains only the prefab values for specific fields.
+        this.prefabFields = fieldCache.copyOf(configuration.prefabbedFields());
+        this.objenesis = objenesis;
+        this.sharedValues = sharedValues;
         var modes = configuration.modes();
 
-        this.valueProvider = ValueProviderBuilder.build(modes, userPrefabs, fieldCache, objenesis);
+        this.valueProvider = ValueProviderBuilder.build(modes, userPrefabs, fieldCache, objenesis, sharedValues);
         this.subjectCreator = new SubjectCreator<>(configuration,
                 this.valueProvider,
+                userPrefabs,
                 objenesis,
                 configuration.modes().contains(Mode.finalMeansFinal()));
     }
 
+    /**
+     * Creates a new context for the same configuration, with its own {@link SubjectCreator}, {@link ValueProvider} and
+     * {@link FieldCache}. The new context's field cache starts out with only the prefab values for specific fields. The
+     * new context shares nothing with this one that isn't safe to use from several threads at once, so both can be used
+     * at the same time on different threads.
+     *
+     * @return A new context for the same configuration.
+     */
+    public Context<T> copy() {
+        return new Context<>(configuration,
+                userPrefabs,
+                prefabFields.copyOf(configuration.prefabbedFields()),
+                objenesis,
+                sharedValues);
+    }
+
     public Class<T> getType() {
         return type;
     }
@@ -0,0 +1,222 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.internal.reflection.BytecodeDigest;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+
+/**
+ * Remembers which classes were verified successfully in a previous run, so they can be skipped if nothing has changed.
+ *
+ * <p>
+ * Each class gets a fingerprint, which covers the configuration and the bytecode of the class, of its supertypes, of
+ * the classes it's nested in, of the {@code package-info} of its package, and of its permitted subclasses, because
+ * EqualsVerifier reads annotations from all of those. The same goes for the types of its fields, recursively. Classes
+ * for which some of this bytecode can't be found, such as classes that were generated at runtime, don't get a
+ * fingerprint, and are always verified.
+ *
+ * <p>
+ * The state is stored as a properties file that maps class names to fingerprints. Entries for classes that aren't part
+ * of the current run are kept, so several tests can share the same file.
+ */
+public final class IncrementalState {
+
+    private static final String COMMENT = "EqualsVerifier incremental state. It's safe to delete this file.";
+
+    private final Path file;
+    private final String configuration;
+    private final Properties state;
+    private final Map<Class<?>, String> fingerprints = new HashMap<>();
+    private final Map<Class<?>, String> classDigests = new HashMap<>();
+
+    private IncrementalState(Path file, String configuration, Properties state) {
+        this.file = file;
+        this.configuration = configuration;
+        this.state = state;
+    }
+
+    /**
+     * Reads the state from the given file. If the file doesn't exist or can't be read, the state is empty.
+     *
+     * @param file          The file that contains the state.
+     * @param configuration A description of the configuration that applies to all verified classes.
+     * @return The state.
+     */
+    public static IncrementalState load(Path file, String configuration) {
+        var state = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                state.load(reader);
+            }
+            catch (IOException | IllegalArgumentException e) {
+                state.clear();
+            }
+        }
+        return new IncrementalState(file, configuration, state);
+    }
+
+    /**
+     * Determines whether the given type was verified successfully in a previous run, and hasn't changed since.
+     *
+     * @param type The type to check.
+     * @return Whether the type can be skipped.
+     */
+    public boolean isUnchanged(Class<?> type) {
+        String fingerprint = fingerprintOf(type);
+        return fingerprint != null && fingerprint.equals(state.getProperty(type.getName()));
+    }
+
+    /**
+     * Records the outcome of the verifications. Successful types are remembered; failed types are forgotten.
+     *
+     * @param reports The outcome of the verifications.
+     */
+    public void update(List<EqualsVerifierReport> reports) {
+        for (EqualsVerifierReport report : reports) {
+            Class<?> type = report.getType();
+            String fingerprint = fingerprintOf(type);
+            if (report.isSuccessful() && fingerprint != null) {
+                state.setProperty(type.getName(), fingerprint);
+            }
+            else {
+                state.remove(type.getName());
+            }
+        }
+    }
+
+    /**
+     * Writes the state to the file it was loaded from. If that fails, nothing happens; the next run will simply verify
+     * more classes.
+     */
+    public void save() {
+        Path temp = null;
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                state.store(writer, COMMENT);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    private String fingerprintOf(Class<?> type) {
+        return fingerprints.computeIfAbsent(type, this::computeFingerprint);
+    }
+
+    private String computeFingerprint(Class<?> type) {
+        try {
+            var digest = BytecodeDigest.create().add(ErrorMessage.getVersion()).add(configuration);
+            for (Class<?> c : reachableTypes(type)) {
+                digest.add(classDigests.computeIfAbsent(c, IncrementalState::classDigest));
+            }
+            return digest.toHex();
+        }
+        catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String classDigest(Class<?> type) {
+        var digest = BytecodeDigest.create().addWithSupertypes(type).addPackageInfo(type);
+        for (Class<?> c : relatedTypes(type)) {
+            digest.addClass(c);
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * Returns the classes that the given class is nested in, and its permitted subclasses, recursively.
+     */
+    static Set<Class<?>> relatedTypes(Class<?> type) {
+        var result = new LinkedHashSet<Class<?>>();
+        for (Class<?> outer = type.getEnclosingClass(); outer != null; outer = outer.getEnclosingClass()) {
+            result.add(outer);
+        }
+        var todo = new ArrayDeque<Class<?>>();
+        todo.add(type);
+        while (!todo.isEmpty()) {
+            Class<?>[] permitted = todo.remove().getPermittedSubclasses();
+            for (Class<?> c : permitted == null ? new Class<?>[0] : permitted) {
+                if (result.add(c)) {
+                    todo.add(c);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Set<Class<?>> reachableTypes(Class<?> type) {
+        var result = new LinkedHashSet<Class<?>>();
+        var todo = new ArrayDeque<Class<?>>();
+        todo.add(type);
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.remove();
+            if (isJdkType(c) || !result.add(c)) {
+                continue;
+            }
+            for (FieldProbe p : FieldIterable.of(c)) {
+                addRawTypes(p.getField().getGenericType(), todo);
+            }
+        }
+        return result;
+    }
+
+    private static void addRawTypes(Type type, Collection<Class<?>> result) {
+        if (type instanceof Class<?> c) {
+            Class<?> component = c;
+            while (component.isArray()) {
+                component = component.getComponentType();
+            }
+            result.add(component);
+        }
+        else if (type instanceof ParameterizedType p) {
+            addRawTypes(p.getRawType(), result);
+            for (Type arg : p.getActualTypeArguments()) {
+                addRawTypes(arg, result);
+            }
+        }
+        else if (type instanceof GenericArrayType a) {
+            addRawTypes(a.getGenericComponentType(), result);
+        }
+        else if (type instanceof WildcardType w) {
+            for (Type bound : w.getUpperBounds()) {
+                addRawTypes(bound, result);
+            }
+        }
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        // JDK classes only change with the JDK version, which is part of the configuration.
+        ClassLoader cl = type.getClassLoader();
+        return type.isPrimitive() || cl == null || cl == ClassLoader.getPlatformClassLoader();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            if (path != null) {
+                Files.deleteIfExists(path);
+            }
+        }
+        catch (IOException ignored) {
+            // Nothing we can do about it.
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.TimingReport;
+
+/**
+ * Adds timings and costs to an {@link EqualsVerifierReport}.
+ *
+ * <p>
+ * {@code EqualsVerifierReport} is public API, but users shouldn't be able to change its timings and costs, so it has no
+ * public way to set them. Instead, it registers a {@link Details} with this class when it's initialized.
+ */
+public final class ReportFactory {
+
+    private static Details details;
+
+    /** Do not instantiate. */
+    private ReportFactory() {}
+
+    /**
+     * Adds timings and costs to a copy of a report.
+     *
+     * @param report  The report to copy.
+     * @param timings The timings that were recorded during the run.
+     * @param costs   The costs that were profiled during the run.
+     * @return A copy of {@code report} with the given timings and costs.
+     */
+    public static EqualsVerifierReport withDetails(
+            EqualsVerifierReport report,
+            TimingReport timings,
+            CostReport costs) {
+        // Because there's an instance of EqualsVerifierReport, its class is initialized, and details is registered.
+        return details.withDetails(report, timings, costs);
+    }
+
+    /**
+     * Registers the {@link Details} of {@link EqualsVerifierReport}. Only {@code EqualsVerifierReport} should call
+     * this; later calls are ignored.
+     *
+     * @param newDetails Adds timings and costs to a copy of a report.
+     */
+    public static synchronized void register(Details newDetails) {
+        if (details == null) {
+            details = newDetails;
+        }
+    }
+
+    /** Adds timings and costs to a copy of a report. */
+    @FunctionalInterface
+    public interface Details {
+        /**
+         * Adds timings and costs to a copy of a report.
+         *
+         * @param report  The report to copy.
+         * @param timings The timings that were recorded during the run.
+         * @param costs   The costs that were profiled during the run.
+         * @return A copy of {@code report} with the given timings and costs.
+         */
+        EqualsVerifierReport withDetails(EqualsVerifierReport report, TimingReport timings, CostReport costs);
+    }
+}
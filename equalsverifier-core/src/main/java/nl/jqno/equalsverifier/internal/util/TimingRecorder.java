@@ -0,0 +1,213 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import nl.jqno.equalsverifier.TimingReport;
+
+/**
+ * Records how much time each part of a verification takes, and how much work it does, for {@link TimingReport}.
+ *
+ * <p>
+ * A recorder is bound to the thread that verifies a class. Code that does interesting work, such as creating instances
+ * or providing values, calls the static {@code count} methods; these do nothing if no recorder is active on the current
+ * thread, so they're cheap when timings aren't requested.
+ */
+public final class TimingRecorder {
+
+    private static final ThreadLocal<TimingRecorder> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final long start = System.nanoTime();
+    private final Map<String, long[]> entries = new LinkedHashMap<>();
+    private final Deque<String> path = new ArrayDeque<>();
+    private long instancesCreated = 0;
+    private long valuesProvided = 0;
+    private long dynamicSubclassesGenerated = 0;
+    private long mockitoFallbacks = 0;
+    private TimingRecorder previous = null;
+
+    private TimingRecorder(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts recording on the current thread, if {@code enabled}.
+     *
+     * @param enabled Whether timings should be recorded.
+     * @return The recorder, which must be stopped when the verification is done.
+     */
+    public static TimingRecorder start(boolean enabled) {
+        var result = new TimingRecorder(enabled);
+        if (enabled) {
+            result.previous = CURRENT.get();
+            CURRENT.set(result);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a recorder that counts the work that another thread does for the recorder that is active on the current
+     * thread. Run the work with {@link #runWith(Runnable)}, and when it's done, add the counts with
+     * {@link #addCounts(TimingRecorder)} on the current thread.
+     *
+     * @return A recorder for another thread; it doesn't count anything if no recorder is active on the current thread.
+     */
+    public static TimingRecorder forWorker() {
+        return new TimingRecorder(CURRENT.get() != null);
+    }
+
+    /**
+     * Runs {@code action} on the current thread, with this recorder active.
+     *
+     * @param action The action to run.
+     */
+    public void runWith(Runnable action) {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+        var outer = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        }
+        finally {
+            restore(outer);
+        }
+    }
+
+    /**
+     * Adds the counts of a recorder that was created with {@link #forWorker()} to the recorder that is active on the
+     * current thread, if any. The worker must be done.
+     *
+     * @param worker The recorder whose counts to add.
+     */
+    public static void addCounts(TimingRecorder worker) {
+        var recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.instancesCreated += worker.instancesCreated;
+            recorder.valuesProvided += worker.valuesProvided;
+            recorder.dynamicSubclassesGenerated += worker.dynamicSubclassesGenerated;
+            recorder.mockitoFallbacks += worker.mockitoFallbacks;
+        }
+    }
+
+    /**
+     * Stops recording on the current thread.
+     *
+     * @return The timings that were recorded, or an empty report if recording wasn't enabled.
+     */
+    public TimingReport stop() {
+        if (!enabled) {
+            return TimingReport.empty();
+        }
+        restore(previous);
+        var result = entries
+                .entrySet()
+                .stream()
+                .map(
+                    e -> new TimingReport.Entry(e.getKey(),
+                            Duration.ofNanos(e.getValue()[0]),
+                            e.getValue()[1],
+                            e.getValue()[2],
+                            e.getValue()[3],
+                            e.getValue()[4]))
+                .toList();
+        return new TimingReport(result, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Runs {@code action} and records it under {@code name}, if a recorder is active on the current thread.
+     *
+     * @param name   The name of the action.
+     * @param action The action to run.
+     */
+    public static void measure(String name, Runnable action) {
+        measure(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code action} and records it under {@code name}, if a recorder is active on the current thread.
+     *
+     * @param <T>    The type of the action's result.
+     * @param name   The name of the action.
+     * @param action The action to run.
+     * @return The result of the action.
+     */
+    public static <T> T measure(String name, Supplier<T> action) {
+        var recorder = CURRENT.get();
+        return recorder == null ? action.get() : recorder.record(name, action);
+    }
+
+    /** Counts an instance that was created. */
+    public static void countInstance() {
+        var recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.instancesCreated += 1;
+        }
+    }
+
+    /** Counts a value that was provided. */
+    public static void countValue() {
+        var recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.valuesProvided += 1;
+        }
+    }
+
+    /** Counts a subclass that was generated at runtime. */
+    public static void countDynamicSubclass() {
+        var recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.dynamicSubclassesGenerated += 1;
+        }
+    }
+
+    /** Counts a value that had to be provided by Mockito. */
+    public static void countMockitoFallback() {
+        var recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.mockitoFallbacks += 1;
+        }
+    }
+
+    private static void restore(TimingRecorder recorder) {
+        if (recorder == null) {
+            CURRENT.remove();
+        }
+        else {
+            CURRENT.set(recorder);
+        }
+    }
+
+    private <T> T record(String name, Supplier<T> action) {
+        String fullName = path.isEmpty() ? name : path.peek() + "/" + name;
+        long[] totals = entries.computeIfAbsent(fullName, k -> new long[5]);
+        long t0 = System.nanoTime();
+        long i0 = instancesCreated;
+        long v0 = valuesProvided;
+        long s0 = dynamicSubclassesGenerated;
+        long m0 = mockitoFallbacks;
+
+        path.push(fullName);
+        try {
+            return action.get();
+        }
+        finally {
+            path.pop();
+            totals[0] += System.nanoTime() - t0;
+            totals[1] += instancesCreated - i0;
+            totals[2] += valuesProvided - v0;
+            totals[3] += dynamicSubclassesGenerated - s0;
+            totals[4] += mockitoFallbacks - m0;
+        }
+    }
+}
@@ -239,6 +239,14 @@ public final class Validations {
         validate(!red.equals(blue), message);
     }
 
+    public static void validateFraction(double value, String name) {
+        validate(!(value >= 0 && value <= 1), name + " must be between 0 and 1, but is " + value + ".");
+    }
+
+    public static void validateNotNegative(long value, String name) {
+        validate(value < 0, name + " must not be negative, but is " + value + ".");
+    }
+
     public static void validateNotNull(Object object, String errormessage) {
         if (object == null) {
             throw new NullPointerException("Precondition: " + errormessage);
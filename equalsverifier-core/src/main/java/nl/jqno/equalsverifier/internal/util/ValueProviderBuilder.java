@@ -15,6 +15,15 @@ public final class ValueProviderBuilder {
             UserPrefabValueCaches userPrefabCaches,
             FieldCache fieldCache,
             Objenesis objenesis) {
+        return build(modes, userPrefabCaches, fieldCache, objenesis, null);
+    }
+
+    public static ValueProvider build(
+            Set<Mode> modes,
+            UserPrefabValueCaches userPrefabCaches,
+            FieldCache fieldCache,
+            Objenesis objenesis,
+            SharedValueCache sharedValues) {
 
         var recursionDetector = new RecursionDetectingValueProvider();
 
@@ -23,14 +32,19 @@ public final class ValueProviderBuilder {
         var builtinPrefabs = new BuiltinPrefabValueProvider();
         var builtinGenericPrefabs = new BuiltinGenericPrefabValueProvider(recursionDetector);
         var versionSpecificBuiltinPrefabs = new BuiltinVersionSpecificValueProvider(recursionDetector);
-        var mockito =
-                new MockitoValueProvider(!ExternalLibs.isMockitoAvailable() || modes.contains(Mode.skipMockito()));
+        boolean skipMockito = !ExternalLibs.isMockitoAvailable() || modes.contains(Mode.skipMockito());
+        var mockito = new MockitoValueProvider(skipMockito, sharedValues);
         var enumeration = new EnumValueProvider();
         var array = new ArrayValueProvider(recursionDetector);
         var abstr = new AbstractValueProvider(recursionDetector);
-        var object = new ObjectValueProvider(recursionDetector, objenesis, modes.contains(Mode.finalMeansFinal()));
-
-        var mainChain = new ChainedValueProvider(userPrefabs,
+        // Mocks carry the name of the field they were created for, so values that may contain them can't be shared.
+        var object = new ObjectValueProvider(recursionDetector,
+                objenesis,
+                modes.contains(Mode.finalMeansFinal()),
+                skipMockito ? sharedValues : null);
+
+        var mainChain = new ChainedValueProvider(userPrefabCaches,
+                userPrefabs,
                 userGenericPrefabs,
                 builtinPrefabs,
                 builtinGenericPrefabs,
@@ -39,4 +39,10 @@ public class ArrayValueProvider implements ValueProvider {
             return new Tuple<>(red, blue, redCopy);
         });
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        return !tag.getType().isArray();
+    }
 }
@@ -1,6 +1,6 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
-import java.util.LinkedHashSet;
+import java.util.*;
 
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 
@@ -8,20 +8,20 @@ import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 public final class Attributes {
     private final String cacheKey;
     private final String fieldName;
-    private final LinkedHashSet<TypeTag> typeStack;
+    private final TypeStack typeStack;
 
-    private Attributes(String cacheKey, String fieldName, LinkedHashSet<TypeTag> typeStack) {
+    private Attributes(String cacheKey, String fieldName, TypeStack typeStack) {
         this.cacheKey = cacheKey;
         this.fieldName = fieldName;
         this.typeStack = typeStack;
     }
 
     public static Attributes empty() {
-        return new Attributes(null, null, new LinkedHashSet<>());
+        return new Attributes(null, null, null);
     }
 
     public static Attributes named(String fieldName) {
-        return new Attributes(fieldName, fieldName, new LinkedHashSet<>());
+        return new Attributes(fieldName, fieldName, null);
     }
 
     public String cacheKey() {
@@ -29,7 +29,7 @@ public final class Attributes {
     }
 
     public Attributes clearCacheKey() {
-        return new Attributes(null, fieldName, typeStack());
+        return new Attributes(null, fieldName, typeStack);
     }
 
     public String fieldName() {
@@ -37,20 +37,65 @@ public final class Attributes {
     }
 
     public Attributes addToStack(TypeTag tag) {
-        var newStack = copyTypeStack();
-        newStack.add(tag);
-        return new Attributes(cacheKey, fieldName, newStack);
+        return new Attributes(cacheKey, fieldName, new TypeStack(tag, typeStack));
     }
 
     public boolean typeStackContains(TypeTag tag) {
-        return typeStack.contains(tag);
+        return typeStack != null && typeStack.contains(tag);
     }
 
     public LinkedHashSet<TypeTag> typeStack() {
-        return copyTypeStack();
+        var frames = new ArrayList<TypeTag>();
+        for (TypeStack s = typeStack; s != null; s = s.tail) {
+            frames.add(s.head);
+        }
+        Collections.reverse(frames);
+        return new LinkedHashSet<>(frames);
     }
 
-    private LinkedHashSet<TypeTag> copyTypeStack() {
-        return new LinkedHashSet<>(typeStack);
+    /**
+     * An immutable stack of types, in which every frame shares the frames below it, so pushing is cheap. Every
+     * {@link #INDEX_INTERVAL} frames, a frame gets an index of all the types up to and including itself, so lookups in
+     * deep stacks don't have to walk all the way down.
+     */
+    private static final class TypeStack {
+        private static final int INDEX_INTERVAL = 16;
+
+        private final TypeTag head;
+        private final TypeStack tail;
+        private final int size;
+        private final Set<TypeTag> index;
+
+        private TypeStack(TypeTag head, TypeStack tail) {
+            this.head = head;
+            this.tail = tail;
+            this.size = tail == null ? 1 : tail.size + 1;
+            this.index = size % INDEX_INTERVAL == 0 ? buildIndex() : null;
+        }
+
+        private Set<TypeTag> buildIndex() {
+            var result = new HashSet<TypeTag>();
+            result.add(head);
+            for (TypeStack s = tail; s != null; s = s.tail) {
+                if (s.index != null) {
+                    result.addAll(s.index);
+                    break;
+                }
+                result.add(s.head);
+            }
+            return result;
+        }
+
+        private boolean contains(TypeTag tag) {
+            for (TypeStack s = this; s != null; s = s.tail) {
+                if (s.index != null) {
+                    return s.index.contains(tag);
+                }
+                if (s.head.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
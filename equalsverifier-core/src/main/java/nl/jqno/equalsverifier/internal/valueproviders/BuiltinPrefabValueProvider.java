@@ -1,6 +1,14 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.*;
+import java.nio.charset.Charset;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
@@ -14,13 +22,68 @@ import nl.jqno.equalsverifier.internal.valueproviders.prefab.*;
  */
 public class BuiltinPrefabValueProvider implements ValueProvider {
 
+    // Immutable JDK types whose values can be created once, and then shared by all verifications in all threads.
+    // Primitives and their wrappers are shared as well.
+    private static final Set<Class<?>> SHAREABLE = Set
+            .of(
+                Object.class,
+                String.class,
+                Number.class,
+                BigDecimal.class,
+                BigInteger.class,
+                Currency.class,
+                Locale.class,
+                UUID.class,
+                HexFormat.class,
+                OptionalInt.class,
+                OptionalLong.class,
+                OptionalDouble.class,
+                Charset.class,
+                InetAddress.class,
+                Inet4Address.class,
+                Inet6Address.class,
+                InetSocketAddress.class,
+                URI.class,
+                URL.class,
+                Pattern.class,
+                DateTimeFormatter.class,
+                Clock.class,
+                Duration.class,
+                Instant.class,
+                LocalDate.class,
+                LocalDateTime.class,
+                LocalTime.class,
+                MonthDay.class,
+                OffsetDateTime.class,
+                OffsetTime.class,
+                Period.class,
+                Year.class,
+                YearMonth.class,
+                ZoneId.class,
+                ZoneOffset.class,
+                ZonedDateTime.class);
+
+    private static final Map<Class<?>, Optional<Tuple<?>>> SHARED = new ConcurrentHashMap<>();
+
     /** {@inheritDoc}} */
     @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
         Class<T> type = tag.getType();
         if (!tag.genericTypes().isEmpty()) {
             return Optional.empty();
         }
+        if (isShared(type)) {
+            return (Optional) SHARED.computeIfAbsent(type, t -> (Optional) supply(t));
+        }
+        return supply(type);
+    }
+
+    /* package protected */ static boolean isShared(Class<?> type) {
+        return SHAREABLE.contains(type) || PrimitiveMappers.DEFAULT_WRAPPED_VALUE_MAPPER.containsKey(type);
+    }
+
+    private static <T> Optional<Tuple<T>> supply(Class<T> type) {
         if (PrimitiveMappers.DEFAULT_WRAPPED_VALUE_MAPPER.containsKey(type)) {
             return new PrimitiveValueSupplier<>(type).get();
         }
@@ -49,4 +112,11 @@ public class BuiltinPrefabValueProvider implements ValueProvider {
         };
         return supplier.get();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        // Generic tags are always declined, but that says nothing about other tags with the same raw type.
+        return tag.genericTypes().isEmpty();
+    }
 }
@@ -1,18 +1,32 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 
 /**
  * Provider of prefabricated instances of classes, delegating to other ValueProviders in sequence.
+ *
+ * <p>
+ * Remembers, for each raw type, which ValueProviders have declined it for good (see
+ * {@link ValueProvider#declinesRawType(TypeTag)}), and skips them the next time. The ValueProviders that remain are
+ * still asked in the original order, so the result is the same as when every ValueProvider would be asked.
  */
 public class ChainedValueProvider implements ValueProvider {
 
+    private static final BitSet NONE = new BitSet();
+
     private final List<ValueProvider> providers;
+    private final UserPrefabValueCaches prefabs;
+    private final Map<Class<?>, BitSet> declined = new ConcurrentHashMap<>();
+    private volatile int prefabsVersion;
 
     /**
      * Constructor.
@@ -20,17 +34,67 @@ public class ChainedValueProvider implements ValueProvider {
      * @param providers A list of ValueProviders that are checked in turn for a value.
      */
     public ChainedValueProvider(ValueProvider... providers) {
+        this(null, providers);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prefabs   The user's prefab values; when these change, the ValueProviders are asked again for every type.
+     *                      May be null if none of the ValueProviders depend on them.
+     * @param providers A list of ValueProviders that are checked in turn for a value.
+     */
+    public ChainedValueProvider(UserPrefabValueCaches prefabs, ValueProvider... providers) {
         this.providers = Arrays.asList(providers);
+        this.prefabs = prefabs;
+        this.prefabsVersion = prefabs == null ? 0 : prefabs.version();
     }
 
     /** {@inheritDoc} */
     @Override
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
-        return providers
-                .stream()
-                .map(vp -> vp.<T>provide(tag, attributes))
-                .filter(Optional::isPresent)
-                .findFirst()
-                .orElse(Optional.empty());
+        invalidateIfPrefabsChanged();
+
+        Class<?> type = tag.getType();
+        BitSet skip = declined.getOrDefault(type, NONE);
+        BitSet newlyDeclined = new BitSet();
+        Optional<Tuple<T>> result = Optional.empty();
+        for (int i = 0; i < providers.size(); i++) {
+            if (skip.get(i)) {
+                continue;
+            }
+            ValueProvider vp = providers.get(i);
+            result = vp.provide(tag, attributes);
+            if (result.isPresent()) {
+                break;
+            }
+            if (vp.declinesRawType(tag)) {
+                newlyDeclined.set(i);
+            }
+        }
+
+        if (!newlyDeclined.isEmpty()) {
+            // BitSets that are in the map are never modified, so they can be read without locking.
+            declined.merge(type, newlyDeclined, (a, b) -> {
+                var merged = (BitSet) a.clone();
+                merged.or(b);
+                return merged;
+            });
+        }
+        if (result.isPresent()) {
+            TimingRecorder.countValue();
+        }
+        return result;
+    }
+
+    private void invalidateIfPrefabsChanged() {
+        if (prefabs == null) {
+            return;
+        }
+        int current = prefabs.version();
+        if (current != prefabsVersion) {
+            declined.clear();
+            prefabsVersion = current;
+        }
     }
 }
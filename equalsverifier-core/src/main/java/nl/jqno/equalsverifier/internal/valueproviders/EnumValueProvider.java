@@ -27,4 +27,10 @@ public class EnumValueProvider implements ValueProvider {
 
         return Optional.of(tup);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        return true;
+    }
 }
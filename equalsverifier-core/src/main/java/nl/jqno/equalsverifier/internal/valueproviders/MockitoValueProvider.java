@@ -3,11 +3,14 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.internal.exceptions.MockitoException;
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import nl.jqno.equalsverifier.internal.util.TimingRecorder;
 
 /**
  * Provider of mock prefabricated instances of classes.
@@ -19,37 +22,63 @@ public class MockitoValueProvider implements ValueProvider {
 
     private final boolean disable;
 
+    // Creating mocks is expensive, so the mocks for each type and field name are created only once per verification, or
+    // once per group of verifications that share a SharedValueCache. The mocks are stub-only, so they don't remember
+    // the calls made on them. Types that can't be mocked aren't remembered, so they're tried again next time.
+    private final Map<Class<?>, Map<String, Tuple<?>>> mocks;
+
     /**
      * Constructor.
      *
      * @param disable If true, this ValueProvider always returns {@code Optional.empty()}.
      */
     public MockitoValueProvider(boolean disable) {
+        this(disable, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param disable      If true, this ValueProvider always returns {@code Optional.empty()}.
+     * @param sharedValues Keeps the mocks, so they can be re-used by other verifications. May be null.
+     */
+    public MockitoValueProvider(boolean disable, SharedValueCache sharedValues) {
         this.disable = disable;
+        this.mocks = sharedValues == null ? new ConcurrentHashMap<>() : sharedValues.mocks();
     }
 
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
-        if (disable) {
+        if (declinesRawType(tag)) {
             return Optional.empty();
         }
         Class<T> type = tag.getType();
-        if (type.getPackageName().startsWith("java.")) {
-            return Optional.empty();
-        }
-        if (type.isPrimitive() || type.isArray() || type.isEnum()) {
-            return Optional.empty();
+        String fieldName = attributes.fieldName();
+        var byFieldName = mocks.computeIfAbsent(type, c -> new ConcurrentHashMap<>());
+        String key = fieldName == null ? "" : fieldName;
+        Tuple<?> result = byFieldName.get(key);
+        if (result == null) {
+            Optional<Tuple<?>> built = buildMocks(type, fieldName);
+            if (built.isEmpty()) {
+                return Optional.empty();
+            }
+            Tuple<?> existing = byFieldName.putIfAbsent(key, built.get());
+            result = existing == null ? built.get() : existing;
         }
+        TimingRecorder.countMockitoFallback();
+        return Optional.of((Tuple<T>) result);
+    }
 
+    private static <T> Optional<Tuple<?>> buildMocks(Class<T> type, String fieldName) {
         try {
-            var red = buildMock(type, attributes.fieldName(), "red");
-            var blue = buildMock(type, attributes.fieldName(), "blue");
+            var red = buildMock(type, fieldName, "red");
+            var blue = buildMock(type, fieldName, "blue");
             if (!red.equals(blue) && red.hashCode() != blue.hashCode()) {
                 // Only return mocked values if they're properly unequal.
                 // They should be, but I think this is undocumented behaviour, so best to be safe.
-                return Optional.of((Tuple<T>) new Tuple<>(red, blue, red));
+                return Optional.of(new Tuple<>(red, blue, red));
             }
         }
         catch (RuntimeException ignored) {
@@ -60,8 +89,19 @@ public class MockitoValueProvider implements ValueProvider {
         return Optional.empty();
     }
 
-    private <T> T buildMock(Class<T> type, String fieldName, String color) {
-        return mock(type, withSettings().defaultAnswer(invocation -> {
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        // Whether a mock can be built may depend on more than the type, so only the cheap checks count.
+        if (disable) {
+            return true;
+        }
+        Class<?> type = tag.getType();
+        return type.getPackageName().startsWith("java.") || type.isPrimitive() || type.isArray() || type.isEnum();
+    }
+
+    private static <T> T buildMock(Class<T> type, String fieldName, String color) {
+        return mock(type, withSettings().stubOnly().defaultAnswer(invocation -> {
             if (invocation.getMethod().getName().equals("toString")) {
                 return "[" + color + " mock for " + type.getSimpleName() + "]";
             }
@@ -2,9 +2,6 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 
 import static nl.jqno.equalsverifier.internal.valueproviders.InstantiationUtil.valuesFor;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import nl.jqno.equalsverifier.internal.instantiators.InstantiatorFactory;
@@ -20,36 +17,61 @@ public class ObjectValueProvider implements ValueProvider {
     private final ValueProvider vp;
     private final Objenesis objenesis;
     private final boolean forceFinalMeansFinal;
+    private final SharedValueCache sharedValues;
 
     public ObjectValueProvider(ValueProvider vp, Objenesis objenesis, boolean forceFinalMeansFinal) {
+        this(vp, objenesis, forceFinalMeansFinal, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param vp                   Provides the values for the fields of the objects.
+     * @param objenesis            To instantiate non-record classes.
+     * @param forceFinalMeansFinal Whether to act as if reflection on final fields is impossible.
+     * @param sharedValues         Values of immutable types that were generated for other verifications. May be null.
+     */
+    public ObjectValueProvider(
+            ValueProvider vp,
+            Objenesis objenesis,
+            boolean forceFinalMeansFinal,
+            SharedValueCache sharedValues) {
         this.vp = vp;
         this.objenesis = objenesis;
         this.forceFinalMeansFinal = forceFinalMeansFinal;
+        this.sharedValues = sharedValues;
     }
 
     /** {@inheritDoc}} */
     @Override
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
+        if (sharedValues != null) {
+            Optional<Tuple<T>> shared = sharedValues.get(tag);
+            if (shared.isPresent()) {
+                return shared;
+            }
+        }
+
         var instantiator = InstantiatorFactory.<T>of(ClassProbe.of(tag.getType()), objenesis, forceFinalMeansFinal);
         var values = determineValues(tag.getType(), tag, attributes);
         var tuple = Rethrow.rethrow(() -> values.map(instantiator::instantiate));
+        if (sharedValues != null) {
+            sharedValues.putIfImmutable(tag, tuple);
+        }
         return Optional.of(tuple);
     }
 
-    private <T> Tuple<Map<Field, Object>> determineValues(Class<T> actualType, TypeTag tag, Attributes attributes) {
-        Map<Field, Object> red = new HashMap<>();
-        Map<Field, Object> blue = new HashMap<>();
-        Map<Field, Object> redCopy = new HashMap<>();
-
-        for (var p : FieldIterable.ofIgnoringStatic(actualType)) {
-            var field = p.getField();
-            var value = valuesFor(field, tag, vp, attributes);
+    private <T> Tuple<ValueVector> determineValues(Class<T> actualType, TypeTag tag, Attributes attributes) {
+        var red = ValueVector.of(actualType);
+        var blue = ValueVector.of(actualType);
 
-            red.put(field, value.red());
-            blue.put(field, value.blue());
-            redCopy.put(field, value.red());
+        for (int i = 0; i < red.size(); i++) {
+            var value = valuesFor(red.field(i), tag, vp, attributes);
+            red.set(i, value.red());
+            blue.set(i, value.blue());
         }
 
-        return new Tuple<>(red, blue, redCopy);
+        // Instantiating doesn't modify the vector, so red and redCopy can be created from the same one.
+        return new Tuple<>(red, blue, red);
     }
 }
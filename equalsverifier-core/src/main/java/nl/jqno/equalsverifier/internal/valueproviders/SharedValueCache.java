@@ -0,0 +1,110 @@
+package nl.jqno.equalsverifier.internal.valueproviders;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+
+/**
+ * Caches generated values of immutable types, so they can be re-used when several classes are verified with the same
+ * configuration.
+ *
+ * <p>
+ * A type is considered immutable if it's a primitive, an enum, one of the immutable JDK types that
+ * {@link BuiltinPrefabValueProvider} shares, or a concrete class (such as a record) whose fields are all final and of
+ * immutable types. Types that refer to themselves, directly or indirectly, are not considered immutable. Values of
+ * other types are never cached, so checks that modify them stay isolated from each other.
+ *
+ * <p>
+ * It also keeps the mocks that {@link MockitoValueProvider} creates, because creating them is expensive. Mocks aren't
+ * immutable values, but they throw on every call except {@code toString}, {@code equals} and {@code hashCode}, so they
+ * can be shared as well.
+ *
+ * <p>
+ * The cache doesn't know about prefab values; whoever owns it must make sure that it's only shared between
+ * verifications with the same prefab values. Safe to use from several threads at once.
+ */
+public final class SharedValueCache {
+
+    private final Map<TypeTag, Tuple<?>> values = new ConcurrentHashMap<>();
+    private final Map<TypeTag, Boolean> immutable = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Tuple<?>>> mocks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached values for the given type, if any.
+     *
+     * @param <T> The type of the values.
+     * @param tag The type of the values.
+     * @return The cached values, or an empty Optional if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<Tuple<T>> get(TypeTag tag) {
+        return Optional.ofNullable((Tuple<T>) values.get(tag));
+    }
+
+    /**
+     * Caches the given values, if the given type is immutable.
+     *
+     * @param tag   The type of the values.
+     * @param tuple The values.
+     */
+    public void putIfImmutable(TypeTag tag, Tuple<?> tuple) {
+        if (isImmutable(tag)) {
+            values.putIfAbsent(tag, tuple);
+        }
+    }
+
+    /**
+     * Returns the mocks that were created for each type and field name.
+     *
+     * @return The mocks, which can be added to.
+     */
+    public Map<Class<?>, Map<String, Tuple<?>>> mocks() {
+        return mocks;
+    }
+
+    /**
+     * Determines whether values of the given type can safely be shared.
+     *
+     * @param tag The type to check.
+     * @return Whether values of the given type can safely be shared.
+     */
+    public boolean isImmutable(TypeTag tag) {
+        Boolean result = immutable.get(tag);
+        if (result == null) {
+            result = isImmutable(tag, new HashSet<>());
+            immutable.putIfAbsent(tag, result);
+        }
+        return result;
+    }
+
+    private static boolean isImmutable(TypeTag tag, Set<TypeTag> visiting) {
+        Class<?> type = tag.getType();
+        if (type.isEnum() || BuiltinPrefabValueProvider.isShared(type)) {
+            return true;
+        }
+        if (!isConcreteUserClass(type) || !visiting.add(tag)) {
+            return false;
+        }
+        for (FieldProbe p : FieldIterable.ofIgnoringStatic(type)) {
+            if (!p.isFinal() || !isImmutable(TypeTag.of(p.getField(), tag), visiting)) {
+                return false;
+            }
+        }
+        visiting.remove(tag);
+        return true;
+    }
+
+    private static boolean isConcreteUserClass(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        boolean isJdkType = cl == null || cl == ClassLoader.getPlatformClassLoader();
+        return !isJdkType && !type.isArray() && !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+}
@@ -1,14 +1,20 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import nl.jqno.equalsverifier.InstanceFactory;
+import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.internal.exceptions.InstantiatorException;
 import nl.jqno.equalsverifier.internal.instantiators.Instantiator;
 import nl.jqno.equalsverifier.internal.instantiators.InstantiatorFactory;
+import nl.jqno.equalsverifier.internal.instantiators.ReflectionInstantiator;
 import nl.jqno.equalsverifier.internal.reflection.*;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Formatter;
@@ -28,6 +34,22 @@ public class SubjectCreator<T> {
     private final Objenesis objenesis;
     private final Instantiator<? extends T> instantiator;
     private final boolean forceFinalMeansFinal;
+    private final UserPrefabValueCaches prefabCaches;
+
+    // Marks the fields for which no value was given, in the arrays of given values.
+    private static final Object ABSENT = new Object();
+
+    // The checks ask for the same fields and values over and over again, so we only look them up once. Each field has
+    // a slot in the ValueVector of actualType, and the given values and cached values are kept in the same slots.
+    private final AccessorPlan plan;
+    private final List<PlannedField> fields;
+    private final List<PlannedField> nonSuperFields;
+    private final Tuple<?>[] valueCache;
+
+    // With Mode.mutateInPlace(), the instances that the field checks ask for are created only once, and changed in
+    // place for each field. This is null if the mode isn't set, or if the class isn't instantiated through reflection.
+    private final ReflectionInstantiator<T> inPlaceInstantiator;
+    private final Map<Role, Reusable<T>> reusables = new EnumMap<>(Role.class);
 
     /**
      * Constructor.
@@ -42,16 +64,57 @@ public class SubjectCreator<T> {
             ValueProvider valueProvider,
             Objenesis objenesis,
             boolean forceFinalMeansFinal) {
+        this(config, valueProvider, new UserPrefabValueCaches(), objenesis, forceFinalMeansFinal);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config               A configuration object.
+     * @param valueProvider        To provide values for the fields of the subject.
+     * @param prefabCaches         To determine which values must be created anew for every instance.
+     * @param objenesis            Needed by InstanceCreator to instantiate non-record classes.
+     * @param forceFinalMeansFinal Force "final means final" (JEP 500) mode.
+     */
+    public SubjectCreator(
+            Configuration<T> config,
+            ValueProvider valueProvider,
+            UserPrefabValueCaches prefabCaches,
+            Objenesis objenesis,
+            boolean forceFinalMeansFinal) {
         this.typeTag = config.typeTag();
         this.type = typeTag.getType();
         this.config = config;
         this.valueProvider = valueProvider;
+        this.prefabCaches = prefabCaches;
         this.objenesis = objenesis;
         this.forceFinalMeansFinal = forceFinalMeansFinal;
         this.actualType =
                 SubtypeManager.findInstantiableSubclass(ClassProbe.of(type), valueProvider, Attributes.empty());
         this.instantiator = InstantiatorFactory
                 .of(ClassProbe.of(actualType), config.factory(), objenesis, forceFinalMeansFinal, true);
+
+        // This should probably use `actualType` instead of `type` for `nonSuperFields`, but then we'd need to find
+        // a way to include all fields from `type` and `actualType` together but without the fields
+        // from `type`'s superclass. That's hard, and it doesn't seem to come up in practice. I'm
+        // leaving this comment here as an explanation, in case it does come up at some point.
+        this.plan = AccessorPlan.of(actualType);
+        this.fields = plan(FieldIterable.ofIgnoringStatic(actualType));
+        this.nonSuperFields = plan(FieldIterable.ofIgnoringSuperAndStatic(type));
+        this.valueCache = new Tuple<?>[fields.size()];
+        this.inPlaceInstantiator = inPlaceInstantiator(config, instantiator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ReflectionInstantiator<T> inPlaceInstantiator(
+            Configuration<T> config,
+            Instantiator<? extends T> instantiator) {
+        boolean enabled =
+                config.modes().contains(Mode.mutateInPlace()) && config.cachedHashCodeInitializer().isPassthrough();
+        if (enabled && instantiator instanceof ReflectionInstantiator<?> r) {
+            return (ReflectionInstantiator<T>) r;
+        }
+        return null;
     }
 
     /**
@@ -82,11 +145,7 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted.
      */
     public T withAllFieldsDefaulted() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            values.put(p.getField(), null);
-        }
-        return createInstance(values);
+        return createInstance(allDefaulted());
     }
 
     /**
@@ -99,10 +158,10 @@ public class SubjectCreator<T> {
      *             value.
      */
     public T withAllMatchingFieldsDefaulted(Predicate<Field> predicate) {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            if (predicate.test(p.getField())) {
-                values.put(p.getField(), null);
+        Object[] values = empty();
+        for (PlannedField p : fields) {
+            if (predicate.test(p.field())) {
+                values[p.slot()] = null;
             }
         }
         return createInstance(values);
@@ -116,11 +175,10 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted except for {@code field}.
      */
     public T withAllFieldsDefaultedExcept(Field field) {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            if (!f.equals(field)) {
-                values.put(f, null);
+        Object[] values = empty();
+        for (PlannedField p : fields) {
+            if (!p.field().equals(field)) {
+                values[p.slot()] = null;
             }
         }
         return createInstance(values);
@@ -137,6 +195,35 @@ public class SubjectCreator<T> {
         return createInstance(with(field, value));
     }
 
+    /**
+     * Creates a {@link #plain()} instance, but with the given fields set to the given values.
+     *
+     * @param values The values to assign, by field.
+     * @return A plain instance with the given fields assigned the given values.
+     */
+    public T withFieldsSetTo(Map<Field, Object> values) {
+        Object[] givens = empty();
+        for (var entry : values.entrySet()) {
+            int slot = plan.slotOf(entry.getKey());
+            if (slot >= 0) {
+                givens[slot] = entry.getValue();
+            }
+        }
+        return createInstance(givens);
+    }
+
+    /**
+     * Returns the values that the given field gets in a {@link #plain()} instance (red) and in a changed instance
+     * (blue).
+     *
+     * @param field The field.
+     * @return The values for the field.
+     */
+    public Tuple<?> valuesFor(Field field) {
+        int slot = plan.slotOf(field);
+        return slot < 0 ? uncachedValuesFor(field) : valuesForSlot(slot);
+    }
+
     /**
      * Creates a {@link #plain()} instance, but with the given field set to another value.
      *
@@ -157,13 +244,7 @@ public class SubjectCreator<T> {
      * @return A plain instance with all fields changed.
      */
     public T withAllFieldsChanged() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            Object value = valuesFor(f).blue();
-            values.put(f, value);
-        }
-        return createInstance(values);
+        return createInstance(allChanged());
     }
 
     /**
@@ -173,15 +254,102 @@ public class SubjectCreator<T> {
      * @return A plain instance with all non-inherited fields changed.
      */
     public T withAllFieldsShallowlyChanged() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : nonSuperFields()) {
-            Field f = p.getField();
-            Object value = valuesFor(f).blue();
-            values.put(f, value);
+        Object[] values = empty();
+        for (PlannedField p : nonSuperFields) {
+            if (p.slot() >= 0) {
+                values[p.slot()] = valuesForSlot(p.slot()).blue();
+            }
         }
         return createInstance(values);
     }
 
+    /**
+     * Returns a {@link #plain()} instance that may be re-used by later calls. With {@link Mode#mutateInPlace()}, every
+     * call returns the same instance, so the result must not be changed, and must not be kept beyond the check of the
+     * current field.
+     *
+     * @return A plain instance that may be re-used.
+     */
+    public T reusablePlain() {
+        return reusable(Role.PLAIN, this::plain, this::empty);
+    }
+
+    /**
+     * Returns a {@link #plain()} instance that may be re-used by later calls, but that is never the same instance as
+     * {@link #reusablePlain()}.
+     *
+     * @return A plain instance that may be re-used.
+     */
+    public T reusablePlainCopy() {
+        return reusable(Role.PLAIN_COPY, this::plain, this::empty);
+    }
+
+    /**
+     * Returns an instance with all fields changed that may be re-used by later calls.
+     *
+     * @return An instance with all fields changed that may be re-used.
+     * @see #withAllFieldsChanged()
+     */
+    public T reusableWithAllFieldsChanged() {
+        return reusable(Role.ALL_CHANGED, this::withAllFieldsChanged, this::allChanged);
+    }
+
+    /**
+     * Returns an instance with all fields defaulted that may be re-used by later calls.
+     *
+     * @return An instance with all fields defaulted that may be re-used.
+     * @see #withAllFieldsDefaulted()
+     */
+    public T reusableWithAllFieldsDefaulted() {
+        return reusable(Role.DEFAULTED, this::withAllFieldsDefaulted, this::allDefaulted);
+    }
+
+    /**
+     * Returns an instance with all fields defaulted that may be re-used by later calls, but that is never the same
+     * instance as {@link #reusableWithAllFieldsDefaulted()}.
+     *
+     * @return An instance with all fields defaulted that may be re-used.
+     */
+    public T reusableWithAllFieldsDefaultedCopy() {
+        return reusable(Role.DEFAULTED_COPY, this::withAllFieldsDefaulted, this::allDefaulted);
+    }
+
+    /**
+     * Returns a {@link #plain()} instance with the given field changed, that may be re-used by later calls. With
+     * {@link Mode#mutateInPlace()}, every call returns the same instance: the field that was changed by the previous
+     * call is restored, and the given field is changed.
+     *
+     * @param field The field to change.
+     * @return A plain instance with a field changed that may be re-used.
+     * @see #withFieldChanged(Field)
+     */
+    public T reusableWithFieldChanged(Field field) {
+        if (inPlaceInstantiator == null) {
+            return withFieldChanged(field);
+        }
+        int slot = plan.slotOf(field);
+        Object value = slot < 0 ? null : valuesForSlot(slot).blue();
+        return changeInPlace(reusable(Role.CHANGED, this::empty), slot, value);
+    }
+
+    /**
+     * Returns an instance with all fields defaulted except the given field, that may be re-used by later calls. With
+     * {@link Mode#mutateInPlace()}, every call returns the same instance: the field that was set by the previous call
+     * is defaulted again, and the given field is set.
+     *
+     * @param field The field that should not be defaulted.
+     * @return An instance with all fields defaulted except for {@code field} that may be re-used.
+     * @see #withAllFieldsDefaultedExcept(Field)
+     */
+    public T reusableWithAllFieldsDefaultedExcept(Field field) {
+        if (inPlaceInstantiator == null) {
+            return withAllFieldsDefaultedExcept(field);
+        }
+        int slot = plan.slotOf(field);
+        Object value = slot < 0 ? null : valuesForSlot(slot).red();
+        return changeInPlace(reusable(Role.DEFAULTED_EXCEPT, this::allDefaulted), slot, value);
+    }
+
     /**
      * Creates a new instance of the superclass of the current class, with all fields that exist within that superclass
      * set to the same value as their counterparts from {@code original}.
@@ -255,48 +423,123 @@ public class SubjectCreator<T> {
         }
     }
 
-    private T createInstance(Map<Field, Object> givens) {
-        Map<Field, Object> values = determineValues(givens);
+    private T createInstance(Object[] givens) {
+        ValueVector values = determineValues(givens);
         return Rethrow.rethrow(() -> instantiator.instantiate(values));
     }
 
-    private Map<Field, Object> determineValues(Map<Field, Object> givens) {
-        var values = new HashMap<Field, Object>(givens);
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            boolean fieldIsAbsent = !values.containsKey(f);
-            boolean fieldCannotBeNull = values.get(f) == null && !p.canBeDefault(config);
+    private ValueVector determineValues(Object[] givens) {
+        var values = ValueVector.of(actualType);
+        for (PlannedField p : fields) {
+            int slot = p.slot();
+            Object value = givens[slot];
+            boolean fieldIsAbsent = value == ABSENT;
+            boolean fieldCannotBeNull = value == null && !p.canBeDefault();
             if (fieldIsAbsent || fieldCannotBeNull) {
-                Object value = valuesFor(f).red();
-                values.put(f, value);
+                value = valuesForSlot(slot).red();
             }
+            values.set(slot, value);
+        }
+        return values;
+    }
+
+    private T reusable(Role role, Supplier<T> fresh, Supplier<Object[]> givens) {
+        return inPlaceInstantiator == null ? fresh.get() : reusable(role, givens).instance;
+    }
+
+    private Reusable<T> reusable(Role role, Supplier<Object[]> givens) {
+        return reusables.computeIfAbsent(role, r -> {
+            ValueVector values = determineValues(givens.get());
+            return new Reusable<>(Rethrow.rethrow(() -> inPlaceInstantiator.instantiate(values)), values);
+        });
+    }
+
+    private T changeInPlace(Reusable<T> reusable, int slot, Object value) {
+        int previous = reusable.changedSlot;
+        if (previous >= 0 && previous != slot) {
+            inPlaceInstantiator.setValue(reusable.instance, previous, reusable.values.getOrDefault(previous));
+        }
+        if (slot >= 0) {
+            inPlaceInstantiator.setValue(reusable.instance, slot, value);
+        }
+        reusable.changedSlot = slot;
+        return reusable.instance;
+    }
+
+    private Object[] allDefaulted() {
+        Object[] values = empty();
+        for (PlannedField p : fields) {
+            values[p.slot()] = null;
         }
         return values;
     }
 
-    private Map<Field, Object> empty() {
-        return new HashMap<>();
+    private Object[] allChanged() {
+        Object[] values = empty();
+        for (PlannedField p : fields) {
+            values[p.slot()] = valuesForSlot(p.slot()).blue();
+        }
+        return values;
     }
 
-    private Map<Field, Object> with(Field f, Object v) {
-        Map<Field, Object> result = empty();
-        result.put(f, v);
+    private Object[] empty() {
+        var result = new Object[fields.size()];
+        Arrays.fill(result, ABSENT);
         return result;
     }
 
-    private FieldIterable fields() {
-        return FieldIterable.ofIgnoringStatic(actualType);
+    private Object[] with(Field f, Object v) {
+        Object[] result = empty();
+        int slot = plan.slotOf(f);
+        // Values for fields that actualType doesn't have, such as static fields, would be ignored anyway.
+        if (slot >= 0) {
+            result[slot] = v;
+        }
+        return result;
     }
 
-    private FieldIterable nonSuperFields() {
-        // This should probably use `actualType` instead of `type`, but then we'd need to find
-        // a way to include all fields from `type` and `actualType` together but without the fields
-        // from `type`'s superclass. That's hard, and it doesn't seem to come up in practice. I'm
-        // leaving this comment here as an explanation, in case it does come up at some point.
-        return FieldIterable.ofIgnoringSuperAndStatic(type);
+    private List<PlannedField> plan(FieldIterable iterable) {
+        var result = new ArrayList<PlannedField>();
+        for (FieldProbe p : iterable) {
+            result.add(new PlannedField(p.getField(), plan.slotOf(p.getField()), p.canBeDefault(config)));
+        }
+        return result;
+    }
+
+    private Tuple<?> valuesForSlot(int slot) {
+        Tuple<?> cached = valueCache[slot];
+        if (cached != null) {
+            return cached;
+        }
+
+        Field f = plan.instanceFields().get(slot).getField();
+        Tuple<?> result = uncachedValuesFor(f);
+        // Resettable prefab values must be created anew for every instance, so we can't keep those around.
+        if (prefabCaches.canBeCached(TypeTag.of(f, typeTag).getType())) {
+            valueCache[slot] = result;
+        }
+        return result;
     }
 
-    private Tuple<?> valuesFor(Field f) {
+    private Tuple<?> uncachedValuesFor(Field f) {
         return InstantiationUtil.valuesFor(f, typeTag, valueProvider, Attributes.named(f.getName()));
     }
+
+    private record PlannedField(Field field, int slot, boolean canBeDefault) {}
+
+    private enum Role {
+        PLAIN, PLAIN_COPY, CHANGED, ALL_CHANGED, DEFAULTED, DEFAULTED_COPY, DEFAULTED_EXCEPT
+    }
+
+    /** An instance that is created once, and of which at most one field differs from the values it was created with. */
+    private static final class Reusable<T> {
+        private final T instance;
+        private final ValueVector values;
+        private int changedSlot = -1;
+
+        private Reusable(T instance, ValueVector values) {
+            this.instance = instance;
+            this.values = values;
+        }
+    }
 }
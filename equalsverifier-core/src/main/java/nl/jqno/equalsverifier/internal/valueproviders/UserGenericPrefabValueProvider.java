@@ -47,4 +47,10 @@ public class UserGenericPrefabValueProvider implements ValueProvider {
 
         return Optional.of(new Tuple<>(red, blue, redCopy));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        return true;
+    }
 }
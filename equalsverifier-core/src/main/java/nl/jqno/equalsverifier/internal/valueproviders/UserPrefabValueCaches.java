@@ -1,8 +1,12 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import nl.jqno.equalsverifier.Func;
 import nl.jqno.equalsverifier.Func.Func1;
@@ -11,11 +15,15 @@ import nl.jqno.equalsverifier.internal.reflection.Tuple;
 
 /**
  * Contains various caches of prefab values, or of factories for prefab values.
+ *
+ * <p>
+ * Safe to read from several threads at once, which happens when several types are verified in parallel.
  */
 public class UserPrefabValueCaches {
-    private final Map<Class<?>, Tuple<?>> cache = new HashMap<>();
-    private final Map<Class<?>, Tuple<Supplier<?>>> supplierCache = new HashMap<>();
-    private final Map<Class<?>, Func<?>> genericCache = new HashMap<>();
+    private final Map<Class<?>, Tuple<?>> cache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Tuple<Supplier<?>>> supplierCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Func<?>> genericCache = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     /** Constructor. */
     public UserPrefabValueCaches() {}
@@ -53,6 +61,7 @@ public class UserPrefabValueCaches {
     public <T> void register(Class<T> type, T red, T blue, T redCopy) {
         Tuple<T> tuple = new Tuple<>(red, blue, redCopy);
         cache.put(type, tuple);
+        version.incrementAndGet();
     }
 
     /**
@@ -68,6 +77,7 @@ public class UserPrefabValueCaches {
     public <T> void registerResettable(Class<T> type, Supplier<T> red, Supplier<T> blue, Supplier<T> redCopy) {
         Tuple<Supplier<?>> tuple = new Tuple<>(red, blue, redCopy);
         supplierCache.put(type, tuple);
+        version.incrementAndGet();
     }
 
     /**
@@ -80,6 +90,7 @@ public class UserPrefabValueCaches {
      */
     public <T> void registerGeneric(Class<T> type, Func1<?, T> factory) {
         genericCache.put(type, factory);
+        version.incrementAndGet();
     }
 
     /**
@@ -92,6 +103,17 @@ public class UserPrefabValueCaches {
      */
     public <T> void registerGeneric(Class<T> type, Func2<?, ?, T> factory) {
         genericCache.put(type, factory);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns a number that changes every time a prefab value or factory is registered, so that anything that depends
+     * on the registered types can tell when it's out of date.
+     *
+     * @return The current version of the caches.
+     */
+    public int version() {
+        return version.get();
     }
 
     /**
@@ -126,6 +148,17 @@ public class UserPrefabValueCaches {
         return (Func<T>) genericCache.get(type);
     }
 
+    /**
+     * Returns the names of all types for which prefab values or factories were registered, in alphabetical order.
+     *
+     * @return The names of all registered types.
+     */
+    public SortedSet<String> getRegisteredTypeNames() {
+        var result = new TreeSet<String>();
+        Stream.of(cache, supplierCache, genericCache).forEach(m -> m.keySet().forEach(c -> result.add(c.getName())));
+        return result;
+    }
+
     /**
      * Whether instances of {@code type} should be cached.
      *
@@ -57,4 +57,10 @@ public class UserPrefabValueProvider implements ValueProvider {
 
         return (Tuple<T>) caches.getPlain(type);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean declinesRawType(TypeTag tag) {
+        return true;
+    }
 }
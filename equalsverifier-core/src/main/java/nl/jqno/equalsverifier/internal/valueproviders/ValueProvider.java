@@ -28,6 +28,21 @@ public interface ValueProvider {
      */
     <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes);
 
+    /**
+     * Determines whether, given that this ValueProvider returned an empty Optional for {@code tag}, it will also return
+     * an empty Optional for every other tag with the same raw type, regardless of generics and attributes.
+     *
+     * <p>
+     * {@link ChainedValueProvider} uses this to skip ValueProviders that are known to decline a type. Returning
+     * {@code false} is always safe.
+     *
+     * @param tag A tag for which this ValueProvider returned an empty Optional.
+     * @return Whether this ValueProvider declines all tags with the same raw type as {@code tag}.
+     */
+    default boolean declinesRawType(TypeTag tag) {
+        return false;
+    }
+
     /**
      * Returns a tuple of prefabricated values of the specified type, or, if none exists, throws a NoValueException.
      *
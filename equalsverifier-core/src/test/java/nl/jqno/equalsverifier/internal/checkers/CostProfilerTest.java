@@ -0,0 +1,149 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.util.ConfigurationHelper;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
+import org.junit.jupiter.api.Test;
+import org.objenesis.ObjenesisStd;
+
+/*
+ * Instead of the real time, the profiler reads a clock that the classes below advance by one for each call and by one
+ * for each element they visit. That makes the growth rates exact: about 1 for linear cost and 0 for constant cost.
+ */
+class CostProfilerTest {
+
+    private static final AtomicLong WORK = new AtomicLong();
+
+    @Test
+    void hashCodeGrows_whenItIteratesOverCollection() {
+        CostReport costs = profile(HashesItems.class);
+
+        assertThat(costs.getEntry("hashCode", "items").get().getGrowthRate()).isCloseTo(1.0, within(0.01));
+    }
+
+    @Test
+    void equalsGrows_whenItComparesExpensiveFieldFirst() {
+        CostReport costs = profile(ItemsFirst.class);
+
+        assertThat(costs.getEntry("equals", "items").get().getGrowthRate()).isCloseTo(1.0, within(0.01));
+    }
+
+    @Test
+    void nothingGrows_whenCheapFieldComesFirstAndHashCodeIgnoresCollection() {
+        CostReport costs = profile(CheapFirst.class);
+
+        assertThat(costs.getEntries()).hasSize(2).allMatch(e -> e.getGrowthRate() == 0.0);
+    }
+
+    @Test
+    void nothingIsProfiled_whenModeIsNotSet() {
+        var context = new Context<>(ConfigurationHelper.emptyConfiguration(HashesItems.class),
+                new UserPrefabValueCaches(),
+                new FieldCache(),
+                new ObjenesisStd());
+        var profiler = new CostProfiler<>(context, WORK::get);
+
+        profiler.check();
+
+        assertThat(profiler.getReport().isEmpty()).isTrue();
+    }
+
+    private static <T> CostReport profile(Class<T> type) {
+        var context = new Context<>(ConfigurationHelper.emptyConfigurationWithModes(type, Mode.profileCosts()),
+                new UserPrefabValueCaches(),
+                new FieldCache(),
+                new ObjenesisStd());
+        var profiler = new CostProfiler<>(context, WORK::get);
+        profiler.check();
+        return profiler.getReport();
+    }
+
+    private static int visit(List<String> items) {
+        WORK.addAndGet(items == null ? 0 : items.size());
+        return Objects.hashCode(items);
+    }
+
+    static final class HashesItems {
+        private final int id;
+        private final List<String> items;
+
+        HashesItems(int id, List<String> items) {
+            this.id = id;
+            this.items = items;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            WORK.incrementAndGet();
+            return obj instanceof HashesItems other && id == other.id && Objects.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            WORK.incrementAndGet();
+            return 31 * id + visit(items);
+        }
+    }
+
+    static final class ItemsFirst {
+        private final List<String> items;
+        private final int id;
+
+        ItemsFirst(List<String> items, int id) {
+            this.items = items;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            WORK.incrementAndGet();
+            if (!(obj instanceof ItemsFirst other)) {
+                return false;
+            }
+            visit(items);
+            return Objects.equals(items, other.items) && id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            WORK.incrementAndGet();
+            return 31 * id + Objects.hashCode(items);
+        }
+    }
+
+    static final class CheapFirst {
+        private final int id;
+        private final List<String> items;
+
+        CheapFirst(int id, List<String> items) {
+            this.id = id;
+            this.items = items;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            WORK.incrementAndGet();
+            if (!(obj instanceof CheapFirst other) || id != other.id) {
+                return false;
+            }
+            visit(items);
+            return Objects.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            WORK.incrementAndGet();
+            return id;
+        }
+    }
+}
@@ -57,6 +57,25 @@ public class InstantiatorFactoryTest {
         assertThatThrownBy(() -> sut(null, null, true)).isInstanceOf(EqualsVerifierInternalBugException.class);
     }
 
+    @Test
+    void returnsSameInstantiator_whenCalledTwice() {
+        var other = InstantiatorFactory.of(ClassProbe.of(SomeClassWithFinalField.class), new ObjenesisStd(), false);
+        assertThat(sut(SomeClassWithFinalField.class)).isSameAs(other);
+    }
+
+    @Test
+    void returnsDifferentInstantiator_whenFinalMeansFinalDiffers() {
+        assertThat(sut(SomeClassWithoutFinalField.class, null, true))
+                .isNotSameAs(sut(SomeClassWithoutFinalField.class, null, false));
+    }
+
+    @Test
+    void doesNotCacheProvidedFactoryInstantiator() {
+        InstanceFactory<SomeClassWithFinalField> factory = v -> new SomeClassWithFinalField();
+        assertThat(sut(SomeClassWithFinalField.class, factory, false))
+                .isNotSameAs(sut(SomeClassWithFinalField.class, factory, false));
+    }
+
     private <T> Instantiator<T> sut(Class<T> type) {
         return sut(type, null, false);
     }
@@ -1,11 +1,17 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 import org.junit.jupiter.api.Test;
 import org.objenesis.ObjenesisStd;
 
@@ -27,5 +33,86 @@ class RecordConstructorInstantiatorTest {
         assertThat(actual.z).isEqualTo("42");
     }
 
+    @Test
+    void instanceCreatorFromValueVector() throws NoSuchFieldException {
+        var probe = ClassProbe.of(SomeRecord.class);
+        var sut = InstantiatorFactory.of(probe, new ObjenesisStd(), false);
+
+        var values = ValueVector.of(SomeRecord.class);
+        values.set(values.plan().slotOf(SomeRecord.class.getDeclaredField("x")), 42);
+        values.set(values.plan().slotOf(SomeRecord.class.getDeclaredField("z")), "42");
+
+        var actual = sut.instantiate(values);
+
+        assertThat(actual.x).isEqualTo(42);
+        assertThat(actual.y).isEqualTo(0);
+        assertThat(actual.z).isEqualTo("42");
+    }
+
+    @Test
+    void exceptionFromConstructorIsWrapped() {
+        var sut = InstantiatorFactory.of(ClassProbe.of(NonNullRecord.class), new ObjenesisStd(), false);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("failed to run constructor")
+                .hasMessageContaining("Warning.NULL_FIELDS")
+                .cause()
+                .isInstanceOf(InvocationTargetException.class)
+                .cause()
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void valueOfTheWrongTypeIsRejected() throws NoSuchFieldException {
+        var sut = InstantiatorFactory.of(ClassProbe.of(SomeRecord.class), new ObjenesisStd(), false);
+        var x = SomeRecord.class.getDeclaredField("x");
+
+        assertThatThrownBy(() -> sut.instantiate(Map.<Field, Object>of(x, "not an int")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void valueOfANarrowerPrimitiveTypeIsWidened() throws NoSuchFieldException {
+        var sut = InstantiatorFactory.of(ClassProbe.of(LongRecord.class), new ObjenesisStd(), false);
+        var x = LongRecord.class.getDeclaredField("x");
+
+        var actual = sut.instantiate(Map.<Field, Object>of(x, 42));
+
+        assertThat(actual.x).isEqualTo(42L);
+    }
+
+    @Test
+    void constructorIsCalledOnce_whenItThrowsForAWidenedValue() throws NoSuchFieldException {
+        var sut = InstantiatorFactory.of(ClassProbe.of(ThrowingLongRecord.class), new ObjenesisStd(), false);
+        var x = ThrowingLongRecord.class.getDeclaredField("x");
+        ThrowingLongRecord.CALLS.set(0);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.<Field, Object>of(x, 42)))
+                .isInstanceOf(ReflectionException.class)
+                .cause()
+                .isInstanceOf(InvocationTargetException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ThrowingLongRecord.CALLS.get()).isEqualTo(1);
+    }
+
     record SomeRecord(int x, int y, String z) {}
+
+    record LongRecord(long x) {}
+
+    record ThrowingLongRecord(long x) {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        ThrowingLongRecord {
+            CALLS.incrementAndGet();
+            throw new IllegalStateException();
+        }
+    }
+
+    record NonNullRecord(String s) {
+        NonNullRecord {
+            Objects.requireNonNull(s);
+        }
+    }
 }
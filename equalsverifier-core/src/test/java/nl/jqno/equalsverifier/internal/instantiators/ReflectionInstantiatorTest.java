@@ -8,6 +8,7 @@ import java.util.Map;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 import nl.jqno.equalsverifier_testhelpers.types.FinalPoint;
 import nl.jqno.equalsverifier_testhelpers.types.TypeHelper.ArrayContainer;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,19 @@ class ReflectionInstantiatorTest {
         assertThat(actual.z).isEqualTo("42");
     }
 
+    @Test
+    void instantiateClassFromValueVector() throws NoSuchFieldException {
+        var values = ValueVector.of(SomeClass.class);
+        values.set(values.plan().slotOf(SomeClass.class.getDeclaredField("x")), 42);
+        values.set(values.plan().slotOf(SomeClass.class.getDeclaredField("z")), "42");
+
+        var actual = InstantiatorFactory.of(ClassProbe.of(SomeClass.class), objenesis, false).instantiate(values);
+
+        assertThat(actual.x).isEqualTo(42);
+        assertThat(actual.y).isEqualTo(0);
+        assertThat(actual.z).isEqualTo("42");
+    }
+
     @Test
     void fieldsOfInstantiatedObjectHaveDefaultValues() {
         var actual = instantiate(SomeClass.class, Map.of());
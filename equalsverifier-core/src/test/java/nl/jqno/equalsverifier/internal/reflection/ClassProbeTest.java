@@ -244,6 +244,17 @@ class ClassProbeTest {
         assertThat(superAccessor.getType()).isEqualTo(Point3D.class);
     }
 
+    @Test
+    void probesAreSharedPerClass() {
+        assertThat(ClassProbe.of(PointContainer.class)).isSameAs(pointProbe);
+    }
+
+    @Test
+    void covariantOverrideIsPreferredOverBridgeMethod() {
+        var probe = ClassProbe.of(CovariantChild.class);
+        assertThat(probe.isMethodFinal("self")).isTrue();
+    }
+
     static class ChildOfFieldContainer extends FieldContainer {}
 
     public abstract static sealed class SealedParent {}
@@ -286,4 +297,17 @@ class ClassProbeTest {
             super(i);
         }
     }
+
+    static class CovariantParent {
+        public CovariantParent self() {
+            return this;
+        }
+    }
+
+    static class CovariantChild extends CovariantParent {
+        @Override
+        public final CovariantChild self() {
+            return this;
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DynamicSubclassCacheTest {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void keyIsStable() {
+        var sut = new DynamicSubclassCache(dir);
+        assertThat(sut.keyFor(Super.class, "x")).isEqualTo(sut.keyFor(Super.class, "x"));
+    }
+
+    @Test
+    void keyDependsOnSuffix() {
+        var sut = new DynamicSubclassCache(dir);
+        assertThat(sut.keyFor(Super.class, "x")).isNotEqualTo(sut.keyFor(Super.class, "y"));
+    }
+
+    @Test
+    void keyDependsOnSuperclass() {
+        var sut = new DynamicSubclassCache(dir);
+        assertThat(sut.keyFor(Super.class, "x")).isNotEqualTo(sut.keyFor(Sub.class, "x"));
+    }
+
+    @Test
+    void keyDependsOnByteBuddyVersion() {
+        var sut = new DynamicSubclassCache(dir, "1");
+        var other = new DynamicSubclassCache(dir, "2");
+        assertThat(sut.keyFor(Super.class, "x")).isNotEqualTo(other.keyFor(Super.class, "x"));
+    }
+
+    @Test
+    void noKey_whenByteBuddyVersionIsUnknown() {
+        var sut = new DynamicSubclassCache(dir, null);
+        assertThat(sut.keyFor(Super.class, "x")).isNull();
+    }
+
+    @Test
+    void storeAndLoad() {
+        var sut = new DynamicSubclassCache(dir.resolve("does/not/exist/yet"));
+        sut.store("key", new byte[] { 1, 2, 3 });
+        assertThat(sut.load("key")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void loadMissingKey() {
+        var sut = new DynamicSubclassCache(dir);
+        assertThat(sut.load("missing")).isNull();
+    }
+
+    @Test
+    void storeDoesntFail_whenDirectoryCantBeCreated() throws Exception {
+        Path file = Files.createFile(dir.resolve("file"));
+        var sut = new DynamicSubclassCache(file);
+        sut.store("key", new byte[] { 1 });
+        assertThat(sut.load("key")).isNull();
+    }
+
+    @Test
+    void disabledWithoutSystemProperty() {
+        assertThat(System.getProperty(DynamicSubclassCache.DIRECTORY_PROPERTY)).isNull();
+        assertThat(DynamicSubclassCache.fromSystemProperty()).isNull();
+    }
+
+    abstract static class Super {}
+
+    abstract static class Sub extends Super {}
+}
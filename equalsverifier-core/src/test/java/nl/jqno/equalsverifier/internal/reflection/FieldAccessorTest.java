@@ -0,0 +1,81 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorTest {
+
+    private final Container o = new Container();
+
+    @Test
+    void getPrivateValue() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("i"));
+        assertThat(sut.getValue(o)).isEqualTo(10);
+    }
+
+    @Test
+    void getStaticValue() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("STATIC_STRING"));
+        assertThat(sut.getValue(null)).isEqualTo("STATIC");
+    }
+
+    @Test
+    void setPrimitive() throws Exception {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("i"));
+        sut.set(o, 1337);
+        assertThat(o.i).isEqualTo(1337);
+    }
+
+    @Test
+    void setObject() throws Exception {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("s"));
+        sut.set(o, "changed");
+        assertThat(o.s).isEqualTo("changed");
+    }
+
+    @Test
+    void setWrongType() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("s"));
+        ExpectedException
+                .when(() -> rethrow(() -> sut.set(o, 42)))
+                .assertThrows(IllegalArgumentException.class)
+                .assertMessageContains("Can not set java.lang.String field");
+    }
+
+    @Test
+    void setNullToPrimitive() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("i"));
+        ExpectedException
+                .when(() -> rethrow(() -> sut.set(o, null)))
+                .assertThrows(IllegalArgumentException.class)
+                .assertMessageContains("to null value");
+    }
+
+    @Test
+    void sameAccessorForSameField() throws NoSuchFieldException {
+        var field = Container.class.getDeclaredField("s");
+        assertThat(FieldAccessor.of(field)).isSameAs(FieldAccessor.of(field));
+    }
+
+    @Test
+    void planContainsInstanceFieldsInOrder() {
+        var actual = AccessorPlan.of(Container.class).instanceFields().stream().map(a -> a.getField().getName());
+        assertThat(actual).containsExactly("i", "s");
+    }
+
+    @SuppressWarnings("unused")
+    static class Container {
+
+        private static final String STATIC_STRING = "STATIC";
+        private final int i;
+        private final String s;
+
+        public Container() {
+            this.i = 10;
+            this.s = "NON-FINAL";
+        }
+    }
+}
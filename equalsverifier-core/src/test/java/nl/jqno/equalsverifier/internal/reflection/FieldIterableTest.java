@@ -126,6 +126,30 @@ class FieldIterableTest {
         assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> iterator.next());
     }
 
+    @Test
+    void iteratorCannotModifyCachedFields() {
+        Iterator<FieldProbe> iterator = FieldIterable.of(DifferentAccessModifiersFieldContainer.class).iterator();
+        iterator.next();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> iterator.remove());
+        assertThat(FieldIterable.of(DifferentAccessModifiersFieldContainer.class))
+                .extracting(FieldProbe::getField)
+                .isEqualTo(FIELD_CONTAINER_FIELDS);
+    }
+
+    @Test
+    void flavoursAreCachedSeparately() {
+        var all = new ArrayList<Field>();
+        FieldIterable.of(DifferentAccessModifiersFieldContainer.class).forEach(p -> all.add(p.getField()));
+        var nonStatic = new ArrayList<Field>();
+        FieldIterable
+                .ofIgnoringStatic(DifferentAccessModifiersFieldContainer.class)
+                .forEach(p -> nonStatic.add(p.getField()));
+
+        assertThat(all).isEqualTo(FIELD_CONTAINER_FIELDS);
+        assertThat(nonStatic).isEqualTo(NONSTATIC_FIELD_CONTAINER_FIELDS);
+    }
+
     @Test
     void objectHasNoElements() {
         FieldIterable iterable = FieldIterable.of(Object.class);
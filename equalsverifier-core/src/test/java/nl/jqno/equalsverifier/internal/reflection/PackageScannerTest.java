@@ -6,6 +6,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 
 import nl.jqno.equalsverifier.ScanOption;
@@ -15,7 +16,12 @@ import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.subpackage.D;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.*;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.subpackage.SubA3;
+import nl.jqno.equalsverifier.testhelpers.packages.uninitialized.InitializationTracker;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class PackageScannerTest {
 
@@ -200,6 +206,122 @@ class PackageScannerTest {
                 .anyMatch(c -> "org.objenesis.instantiator.ObjectInstantiator".equals(c.getName()));
     }
 
+    @Test
+    void classesAreNotInitialized() {
+        List<Class<?>> classes =
+                PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.uninitialized", opts);
+
+        assertThat(classes).hasSize(2);
+        assertThat(InitializationTracker.isInitialized()).isFalse();
+    }
+
+    @Test
+    void jandexIndexIsUsed_whenPresent(@TempDir Path root) throws Exception {
+        writeClassFiles(root, A.class, C.class, nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class);
+        var indexer = new Indexer();
+        indexer.indexClass(A.class);
+        indexer.indexClass(C.class);
+        indexer.indexClass(nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class);
+        writeIndex(root, indexer.complete());
+
+        List<Class<?>> classes = scanWithClasspathRoot(root, "nl.jqno.equalsverifier.testhelpers.packages.correct");
+        sort(classes);
+        assertThat(classes).isEqualTo(List.of(A.class, C.class));
+    }
+
+    @Test
+    void jandexIndexIsUsedRecursively_whenPresent(@TempDir Path root) throws Exception {
+        writeClassFiles(root, A.class, nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class);
+        var indexer = new Indexer();
+        indexer.indexClass(A.class);
+        indexer.indexClass(nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class);
+        writeIndex(root, indexer.complete());
+
+        opts = PackageScanOptions.process(ScanOption.recursive());
+        List<Class<?>> classes = scanWithClasspathRoot(root, "nl.jqno.equalsverifier.testhelpers.packages.correct");
+        sort(classes);
+        assertThat(classes)
+                .isEqualTo(List.of(A.class, nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class));
+    }
+
+    @Test
+    void directoryIsScanned_whenJandexIndexMissesAClass(@TempDir Path root) throws Exception {
+        writeClassFiles(root, A.class, C.class);
+        var indexer = new Indexer();
+        indexer.indexClass(A.class);
+        writeIndex(root, indexer.complete());
+
+        List<Class<?>> classes = scanWithClasspathRoot(root, "nl.jqno.equalsverifier.testhelpers.packages.correct");
+        sort(classes);
+        assertThat(classes).isEqualTo(List.of(A.class, C.class));
+    }
+
+    @Test
+    void directoryIsScanned_whenAClassFileIsNewerThanJandexIndex(@TempDir Path root) throws Exception {
+        writeClassFiles(root, A.class, C.class);
+        var indexer = new Indexer();
+        indexer.indexClass(A.class);
+        indexer.indexClass(B.class);
+        writeIndex(root, indexer.complete());
+        Path indexFile = root.resolve(JandexIndex.LOCATION);
+        Path classFile = root.resolve(C.class.getName().replace('.', '/') + ".class");
+        var later = FileTime.fromMillis(Files.getLastModifiedTime(indexFile).toMillis() + 60_000);
+        Files.setLastModifiedTime(classFile, later);
+
+        List<Class<?>> classes = scanWithClasspathRoot(root, "nl.jqno.equalsverifier.testhelpers.packages.correct");
+        sort(classes);
+        assertThat(classes).isEqualTo(List.of(A.class, C.class));
+    }
+
+    @Test
+    void directoryIsScanned_whenJandexIndexIsCorrupt(@TempDir Path root) throws Exception {
+        Path index = root.resolve(JandexIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, new byte[] { 1, 2, 3 });
+
+        List<Class<?>> classes = scanWithClasspathRoot(root, "nl.jqno.equalsverifier.testhelpers.packages.correct");
+        assertThat(classes).isEmpty();
+    }
+
+    // The index is only used if the directory contains the class files it lists; their contents don't matter.
+    private void writeClassFiles(Path root, Class<?>... types) throws Exception {
+        for (Class<?> type : types) {
+            Path file = root.resolve(type.getName().replace('.', '/') + ".class");
+            Files.createDirectories(file.getParent());
+            Files.write(file, new byte[0]);
+        }
+    }
+
+    private void writeIndex(Path root, Index index) throws Exception {
+        Path file = root.resolve(JandexIndex.LOCATION);
+        Files.createDirectories(file.getParent());
+        try (var out = Files.newOutputStream(file)) {
+            new IndexWriter(out).write(index);
+        }
+    }
+
+    private List<Class<?>> scanWithClasspathRoot(Path root, String packageName) throws Exception {
+        Path packageDir = root.resolve(packageName.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        URL packageUrl = packageDir.toUri().toURL();
+
+        ClassLoader fakeLoader = new URLClassLoader(new URL[0]) {
+            @Override
+            public Enumeration<URL> getResources(String name) {
+                return Collections.enumeration(List.of(packageUrl));
+            }
+        };
+
+        ClassLoader savedCL = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(fakeLoader);
+        try {
+            return PackageScanner.getClassesIn(packageName, opts);
+        }
+        finally {
+            Thread.currentThread().setContextClassLoader(savedCL);
+        }
+    }
+
     private void sort(List<Class<?>> classes) {
         classes.sort(Comparator.comparing(Class::getName));
     }
@@ -0,0 +1,59 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import org.junit.jupiter.api.Test;
+
+class PerClassCacheTest {
+
+    private final PerClassCache<Object> sut = new PerClassCache<>(c -> new Object());
+
+    @Test
+    void storeValue_whenClassComesFromOwnClassloader() {
+        assertThat(sut.get(Local.class)).isSameAs(sut.get(Local.class));
+    }
+
+    @Test
+    void storeValue_whenClassComesFromChildClassloader() {
+        var type = classFrom(new ByteArrayClassLoader(PerClassCacheTest.class.getClassLoader(), Map.of()));
+        assertThat(sut.get(type)).isSameAs(sut.get(type));
+    }
+
+    @Test
+    void storeValue_whenClassComesFromJdk() {
+        assertThat(sut.get(String.class)).isSameAs(sut.get(String.class));
+    }
+
+    @Test
+    void dontStoreValue_whenClassComesFromUnrelatedClassloader() {
+        var type = classFrom(new ByteArrayClassLoader(null, Map.of()));
+        assertThat(sut.get(type)).isNotSameAs(sut.get(type));
+    }
+
+    @Test
+    void isSameOrAncestor() {
+        var own = PerClassCacheTest.class.getClassLoader();
+        var child = new ByteArrayClassLoader(own, Map.of());
+
+        assertThat(PerClassCache.isSameOrAncestor(own, own)).isTrue();
+        assertThat(PerClassCache.isSameOrAncestor(own, child)).isTrue();
+        assertThat(PerClassCache.isSameOrAncestor(null, child)).isTrue();
+        assertThat(PerClassCache.isSameOrAncestor(child, own)).isFalse();
+        assertThat(PerClassCache.isSameOrAncestor(own, null)).isFalse();
+    }
+
+    private static Class<?> classFrom(ClassLoader loader) {
+        return new ByteBuddy()
+                .subclass(Object.class)
+                .name("nl.jqno.equalsverifier.internal.reflection.PerClassCacheTest$Generated")
+                .make()
+                .load(loader)
+                .getLoaded();
+    }
+
+    static final class Local {}
+}
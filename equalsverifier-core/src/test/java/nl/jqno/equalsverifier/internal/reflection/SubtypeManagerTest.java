@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Visibility;
@@ -15,6 +18,7 @@ import nl.jqno.equalsverifier.internal.instantiators.InstantiatorFactory;
 import nl.jqno.equalsverifier.internal.valueproviders.Attributes;
 import nl.jqno.equalsverifier.internal.valueproviders.ValueProvider;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.objenesis.ObjenesisStd;
 import org.w3c.dom.Element;
 
@@ -55,6 +59,57 @@ class SubtypeManagerTest {
         assertThat(sub1).isEqualTo(sub2);
     }
 
+    @Test
+    void giveDynamicSubclassIsIdempotentAcrossThreads() {
+        class Super {}
+        var subs = IntStream
+                .range(0, 16)
+                .parallel()
+                .mapToObj(i -> SubtypeManager.giveDynamicSubclass(Super.class))
+                .collect(Collectors.toSet());
+        assertThat(subs).hasSize(1);
+    }
+
+    @Test
+    void giveDynamicSubclassStoresGeneratedClassInCache(@TempDir Path dir) throws Exception {
+        var cache = new DynamicSubclassCache(dir);
+        var sub = SubtypeManager.giveDynamicSubclass(CachedSuper.class, "store", b -> b, cache);
+
+        assertThat(CachedSuper.class).isAssignableFrom(sub);
+        assertThat(cache.load(cache.keyFor(CachedSuper.class, "store"))).isNotNull();
+    }
+
+    @Test
+    void giveDynamicSubclassLoadsClassFromCache(@TempDir Path dir) {
+        var cache = new DynamicSubclassCache(dir);
+        var key = cache.keyFor(CachedSuper.class, "load");
+        var hash = Integer.toHexString(CachedSuper.class.getName().hashCode());
+        var name = SubtypeManager.dynamicSubclassName(CachedSuper.class, "load", hash);
+        var bytes = new ByteBuddy().subclass(CachedSuper.class).name(name).make().getBytes();
+        cache.store(key, bytes);
+
+        var sub = SubtypeManager.giveDynamicSubclass(CachedSuper.class, "load", b -> {
+            throw new AssertionError("Should have been loaded from cache");
+        }, cache);
+
+        assertThat(sub.getName()).isEqualTo(name);
+    }
+
+    @Test
+    void giveDynamicSubclassGeneratesClass_whenCacheIsCorrupt(@TempDir Path dir) throws Exception {
+        var cache = new DynamicSubclassCache(dir);
+        cache.store(cache.keyFor(CachedSuper.class, "corrupt"), new byte[] { 1, 2, 3 });
+
+        var sub = SubtypeManager
+                .giveDynamicSubclass(
+                    CachedSuper.class,
+                    "corrupt",
+                    b -> b.defineField("dynamicField", int.class, Visibility.PRIVATE),
+                    cache);
+
+        assertThat(sub.getDeclaredField("dynamicField")).isNotNull();
+    }
+
     @Test
     void canInstantiateSubtypeForOrgW3cDomClassWhichHasBootstrapClassLoader() {
         Class<Element> sub = SubtypeManager.giveDynamicSubclass(Element.class);
@@ -168,6 +223,8 @@ class SubtypeManagerTest {
         assertThat(actual).isEqualTo(Object.class);
     }
 
+    abstract static class CachedSuper {}
+
     static class SubtypeManagerTestValueProvider implements ValueProvider {
 
         @Override
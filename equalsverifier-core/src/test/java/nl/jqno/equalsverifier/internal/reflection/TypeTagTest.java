@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier_testhelpers.types.Point;
@@ -151,6 +153,39 @@ class TypeTagTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void resolvedTagIsReused_whenFieldAndEnclosingTypeAreTheSame() throws Exception {
+        Field f = Container.class.getDeclaredField("ts");
+        TypeTag first = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class)));
+        TypeTag second = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class)));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void resolvedTagDependsOnEnclosingType() throws Exception {
+        Field f = Container.class.getDeclaredField("ts");
+        TypeTag strings = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class)));
+        TypeTag points = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(Point.class)));
+
+        assertThat(strings).isEqualTo(new TypeTag(List.class, new TypeTag(String.class)));
+        assertThat(points).isEqualTo(new TypeTag(List.class, new TypeTag(Point.class)));
+    }
+
+    @Test
+    void resolvedTagIsNotReused_whenEnclosingTypeRefersToClassFromChildClassloader() throws Exception {
+        Class<?> child = new ByteBuddy()
+                .subclass(Object.class)
+                .make()
+                .load(new ByteArrayClassLoader(TypeTagTest.class.getClassLoader(), Map.of()))
+                .getLoaded();
+        Field f = Container.class.getDeclaredField("ts");
+        TypeTag first = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(child)));
+        TypeTag second = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(child)));
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
     @SuppressWarnings("unused")
     static class ContainerContainer {
 
@@ -0,0 +1,54 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ValueVectorTest {
+
+    @Test
+    void slotsFollowTheFieldsOfTheClass() throws NoSuchFieldException {
+        var sut = ValueVector.of(Sub.class);
+
+        assertThat(sut.size()).isEqualTo(3);
+        for (int i = 0; i < sut.size(); i++) {
+            assertThat(sut.plan().slotOf(sut.field(i))).isEqualTo(i);
+        }
+        assertThat(sut.plan().slotOf(Sub.class.getDeclaredField("CONSTANT"))).isEqualTo(-1);
+    }
+
+    @Test
+    void emptySlotsHaveDefaultValues() throws NoSuchFieldException {
+        var sut = ValueVector.of(Sub.class);
+        int s = sut.plan().slotOf(Sub.class.getDeclaredField("s"));
+        sut.set(s, "x");
+
+        assertThat(sut.toArrayWithDefaults()).containsExactlyInAnyOrder(0, false, "x");
+    }
+
+    @Test
+    void toMap() throws NoSuchFieldException {
+        var sut = ValueVector.of(Sub.class);
+        var i = Super.class.getDeclaredField("i");
+        sut.set(sut.plan().slotOf(i), 42);
+
+        Map<Field, Object> actual = sut.toMap();
+
+        assertThat(actual).hasSize(3).containsEntry(i, 42);
+    }
+
+    @SuppressWarnings("unused")
+    static class Super {
+        private int i;
+    }
+
+    @SuppressWarnings("unused")
+    static class Sub extends Super {
+        private static final String CONSTANT = "";
+        private boolean b;
+        private String s;
+    }
+}
@@ -0,0 +1,53 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.Test;
+
+class AnnotationCachesTest {
+
+    private static final String NONNULL = "javax.annotation.Nonnull";
+
+    @Test
+    void findSupportedAnnotation() {
+        var actual = AnnotationCaches.of(NonnullContainer.class, Set.of());
+        assertThat(actual.hasFieldAnnotation(NonnullContainer.class, "field", SupportedAnnotations.NONNULL)).isTrue();
+    }
+
+    @Test
+    void reuseCache_whenSameTypeAndIgnoredAnnotations() {
+        var first = AnnotationCaches.of(NonnullContainer.class, Set.of());
+        var second = AnnotationCaches.of(NonnullContainer.class, Set.of());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void dontReuseCache_whenIgnoredAnnotationsDiffer() {
+        var regular = AnnotationCaches.of(NonnullContainer.class, Set.of());
+        var ignoring = AnnotationCaches.of(NonnullContainer.class, Set.of(NONNULL));
+
+        assertThat(ignoring).isNotSameAs(regular);
+        assertThat(ignoring.hasFieldAnnotation(NonnullContainer.class, "field", SupportedAnnotations.NONNULL))
+                .isFalse();
+    }
+
+    @Test
+    void reuseTypePool_whenSameClassLoader() {
+        var loader = AnnotationCachesTest.class.getClassLoader();
+        assertThat(AnnotationCaches.typePoolFor(loader)).isSameAs(AnnotationCaches.typePoolFor(loader));
+    }
+
+    @Test
+    void typePoolForBootstrapClassLoader() {
+        var pool = AnnotationCaches.typePoolFor(null);
+        assertThat(pool.describe(String.class.getName()).isResolved()).isTrue();
+    }
+
+    private static final class NonnullContainer {
+        @Nonnull
+        private Object field;
+    }
+}
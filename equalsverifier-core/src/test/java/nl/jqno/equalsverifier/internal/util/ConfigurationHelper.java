@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.util;
 import java.util.*;
 
 import nl.jqno.equalsverifier.InstanceFactory;
+import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.Warning;
 
 public final class ConfigurationHelper {
@@ -34,6 +35,31 @@ public final class ConfigurationHelper {
                     Collections.emptyList());
     }
 
+    public static final <T> Configuration<T> emptyConfigurationWithModes(Class<T> type, Mode... modes) {
+        return Configuration
+                .build(
+                    type,
+                    null,
+                    null,
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    null,
+                    false,
+                    null,
+                    null,
+                    null,
+                    false,
+                    EnumSet.noneOf(Warning.class),
+                    Set.of(modes),
+                    null,
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptyList(),
+                    Collections.emptyList());
+    }
+
     public static final <T> Configuration<T> emptyConfigurationWithNonnullFields(Class<T> type, String... fieldNames) {
         return Configuration
                 .build(
@@ -0,0 +1,165 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.jar.asm.ClassWriter;
+import net.bytebuddy.jar.asm.Opcodes;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalStateTest {
+
+    private static final String CONFIG = "config";
+    private static final String GENERATED_PACKAGE = "nl.jqno.equalsverifier.generated";
+
+    @TempDir
+    private Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("state.properties");
+    }
+
+    @Test
+    void changed_whenFileDoesNotExist() {
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(Point.class)).isFalse();
+    }
+
+    @Test
+    void unchanged_whenPreviousRunSucceeded() {
+        save(CONFIG, EqualsVerifierReport.success(Point.class));
+
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(Point.class)).isTrue();
+    }
+
+    @Test
+    void changed_whenPreviousRunFailed() {
+        save(CONFIG, EqualsVerifierReport.success(Point.class));
+        save(CONFIG, EqualsVerifierReport.failure(Point.class, "failed", null));
+
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(Point.class)).isFalse();
+    }
+
+    @Test
+    void changed_whenConfigurationChanged() {
+        save(CONFIG, EqualsVerifierReport.success(Point.class));
+
+        var sut = IncrementalState.load(file, "other config");
+        assertThat(sut.isUnchanged(Point.class)).isFalse();
+    }
+
+    @Test
+    void otherClassesAreKept() {
+        save(CONFIG, EqualsVerifierReport.success(Point.class));
+        save(CONFIG, EqualsVerifierReport.success(Line.class));
+
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(Point.class)).isTrue();
+        assertThat(sut.isUnchanged(Line.class)).isTrue();
+    }
+
+    @Test
+    void changed_whenBytecodeIsUnavailable() {
+        Class<?> generated = new ByteBuddy()
+                .subclass(Object.class)
+                .name(getClass().getName() + "$Generated")
+                .make()
+                .load(getClass().getClassLoader())
+                .getLoaded();
+        save(CONFIG, EqualsVerifierReport.success(generated));
+
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(generated)).isFalse();
+    }
+
+    @Test
+    void changed_whenPackageInfoChanged() throws Exception {
+        byte[] thing = new ByteBuddy().subclass(Object.class).name(GENERATED_PACKAGE + ".Thing").make().getBytes();
+
+        Class<?> withoutPackageInfo = loadThing(thing, null);
+        save(CONFIG, EqualsVerifierReport.success(withoutPackageInfo));
+        assertThat(IncrementalState.load(file, CONFIG).isUnchanged(loadThing(thing, null))).isTrue();
+
+        Class<?> withEmptyPackageInfo = loadThing(thing, packageInfo(false));
+        assertThat(IncrementalState.load(file, CONFIG).isUnchanged(withEmptyPackageInfo)).isFalse();
+
+        save(CONFIG, EqualsVerifierReport.success(withEmptyPackageInfo));
+        Class<?> withAnnotatedPackageInfo = loadThing(thing, packageInfo(true));
+        assertThat(IncrementalState.load(file, CONFIG).isUnchanged(withAnnotatedPackageInfo)).isFalse();
+    }
+
+    @Test
+    void relatedTypesContainOuterClassesAndPermittedSubclasses() {
+        assertThat(IncrementalState.relatedTypes(Shape.class))
+                .containsExactlyInAnyOrder(IncrementalStateTest.class, Circle.class, Polygon.class, Square.class);
+    }
+
+    @Test
+    void changed_whenFileIsCorrupt() throws Exception {
+        Files.writeString(file, "\\u00");
+
+        var sut = IncrementalState.load(file, CONFIG);
+        assertThat(sut.isUnchanged(Point.class)).isFalse();
+    }
+
+    private static byte[] packageInfo(boolean deprecated) {
+        var writer = new ClassWriter(0);
+        writer
+                .visit(
+                    Opcodes.V17,
+                    Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE | Opcodes.ACC_SYNTHETIC,
+                    GENERATED_PACKAGE.replace('.', '/') + "/package-info",
+                    null,
+                    "java/lang/Object",
+                    null);
+        if (deprecated) {
+            writer.visitAnnotation("Ljava/lang/Deprecated;", true).visitEnd();
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static Class<?> loadThing(byte[] thing, byte[] packageInfo) throws ClassNotFoundException {
+        var types = new HashMap<String, byte[]>();
+        types.put(GENERATED_PACKAGE + ".Thing", thing);
+        if (packageInfo != null) {
+            types.put(GENERATED_PACKAGE + ".package-info", packageInfo);
+        }
+        var loader = new ByteArrayClassLoader(IncrementalStateTest.class.getClassLoader(),
+                types,
+                ByteArrayClassLoader.PersistenceHandler.MANIFEST);
+        return Class.forName(GENERATED_PACKAGE + ".Thing", false, loader);
+    }
+
+    private void save(String config, EqualsVerifierReport report) {
+        var state = IncrementalState.load(file, config);
+        state.update(List.of(report));
+        state.save();
+    }
+
+    record Point(int x, int y) {}
+
+    record Line(Point from, Point[] to, List<Point> points) {}
+
+    sealed interface Shape permits Circle, Polygon {}
+
+    record Circle(int radius) implements Shape {}
+
+    sealed interface Polygon extends Shape permits Square {}
+
+    record Square(int side) implements Polygon {}
+}
@@ -0,0 +1,47 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.TimingReport;
+import org.junit.jupiter.api.Test;
+
+class ReportFactoryTest {
+
+    private final TimingReport timings = new TimingReport(List.of(), Duration.ofMillis(10));
+    private final CostReport costs = new CostReport(List.of());
+
+    @Test
+    void addsTimingsAndCosts() {
+        var actual = ReportFactory.withDetails(EqualsVerifierReport.success(Object.class), timings, costs);
+
+        assertThat(actual.getTimings()).isSameAs(timings);
+        assertThat(actual.getCosts()).isSameAs(costs);
+    }
+
+    @Test
+    void keepsTheResult() {
+        var cause = new IllegalStateException();
+        var report = EqualsVerifierReport.failure(Object.class, "message", cause);
+
+        var actual = ReportFactory.withDetails(report, timings, costs);
+
+        assertThat(actual.getType()).isEqualTo(Object.class);
+        assertThat(actual.isSuccessful()).isFalse();
+        assertThat(actual.getMessage()).isEqualTo("message");
+        assertThat(actual.getCause()).isSameAs(cause);
+    }
+
+    @Test
+    void ignoresLaterRegistrations() {
+        ReportFactory.register((r, t, c) -> null);
+
+        var actual = ReportFactory.withDetails(EqualsVerifierReport.success(Object.class), timings, costs);
+
+        assertThat(actual).isNotNull();
+    }
+}
@@ -0,0 +1,101 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.TimingReport;
+import org.junit.jupiter.api.Test;
+
+class TimingRecorderTest {
+
+    @Test
+    void reportIsEmpty_whenDisabled() {
+        var sut = TimingRecorder.start(false);
+        TimingRecorder.measure("Checker", TimingRecorder::countInstance);
+
+        assertThat(sut.stop().isEmpty()).isTrue();
+    }
+
+    @Test
+    void measureReturnsResult_whenNoRecorderIsActive() {
+        assertThat(TimingRecorder.measure("Checker", () -> 42)).isEqualTo(42);
+    }
+
+    @Test
+    void countsAreAttributedToEnclosingEntries() {
+        var sut = TimingRecorder.start(true);
+        TimingRecorder.measure("Checker", () -> {
+            TimingRecorder.countInstance();
+            TimingRecorder.measure("Check", () -> {
+                TimingRecorder.countValue();
+                TimingRecorder.countDynamicSubclass();
+                TimingRecorder.countMockitoFallback();
+            });
+        });
+        TimingReport actual = sut.stop();
+
+        assertThat(actual.getEntries())
+                .extracting(TimingReport.Entry::getName)
+                .containsExactly("Checker", "Checker/Check");
+        var checker = actual.getEntry("Checker").get();
+        assertThat(checker.getInstancesCreated()).isEqualTo(1);
+        assertThat(checker.getValuesProvided()).isEqualTo(1);
+        assertThat(checker.getDynamicSubclassesGenerated()).isEqualTo(1);
+        assertThat(checker.getMockitoFallbacks()).isEqualTo(1);
+        var check = actual.getEntry("Checker/Check").get();
+        assertThat(check.getInstancesCreated()).isEqualTo(0);
+        assertThat(check.getValuesProvided()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedEntriesAreAddedUp() {
+        var sut = TimingRecorder.start(true);
+        TimingRecorder.measure("Check", TimingRecorder::countValue);
+        TimingRecorder.measure("Check", TimingRecorder::countValue);
+
+        assertThat(sut.stop().getEntries())
+                .singleElement()
+                .extracting(TimingReport.Entry::getValuesProvided)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void countsAreIgnored_afterStop() {
+        var sut = TimingRecorder.start(true);
+        sut.stop();
+
+        TimingRecorder.countInstance();
+        assertThat(TimingRecorder.measure("Checker", () -> "done")).isEqualTo("done");
+    }
+
+    @Test
+    void aggregateAddsUpEntriesWithTheSameName() {
+        var a = report(new TimingReport.Entry("Checker", Duration.ofMillis(1), 1, 2, 3, 4));
+        var b = report(
+            new TimingReport.Entry("Other", Duration.ofMillis(5), 0, 0, 0, 0),
+            new TimingReport.Entry("Checker", Duration.ofMillis(2), 10, 20, 30, 40));
+
+        TimingReport actual = TimingReport.aggregate(List.of(a, b));
+
+        assertThat(actual.getEntries()).extracting(TimingReport.Entry::getName).containsExactly("Checker", "Other");
+        var checker = actual.getEntry("Checker").get();
+        assertThat(checker.getDuration()).isEqualTo(Duration.ofMillis(3));
+        assertThat(checker.getInstancesCreated()).isEqualTo(11);
+        assertThat(checker.getValuesProvided()).isEqualTo(22);
+        assertThat(checker.getDynamicSubclassesGenerated()).isEqualTo(33);
+        assertThat(checker.getMockitoFallbacks()).isEqualTo(44);
+        assertThat(actual.getTotalDuration()).isEqualTo(Duration.ofMillis(20));
+    }
+
+    private EqualsVerifierReport report(TimingReport.Entry... entries) {
+        return ReportFactory
+                .withDetails(
+                    EqualsVerifierReport.success(Object.class),
+                    new TimingReport(List.of(entries), Duration.ofMillis(10)),
+                    CostReport.empty());
+    }
+}
@@ -2,6 +2,8 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +86,26 @@ class AttributesTest {
         assertThat(original.typeStackContains(SOME_TAG)).isFalse();
         assertThat(original.typeStack()).isEmpty();
     }
+
+    @Test
+    void typeStack_isOrderedFromBottomToTop() {
+        var attrs = Attributes.empty().addToStack(SOME_TAG).addToStack(ANOTHER_TAG);
+
+        assertThat(attrs.typeStack()).containsExactly(SOME_TAG, ANOTHER_TAG);
+    }
+
+    @Test
+    void typeStackContains_inDeepStack() {
+        Class<?>[] types = { Long.class, Short.class, Byte.class, Double.class };
+        var attrs = Attributes.empty().addToStack(SOME_TAG);
+        for (int i = 0; i < 40; i++) {
+            attrs = attrs.addToStack(new TypeTag(List.class, new TypeTag(types[i % types.length])));
+        }
+        var deeper = attrs.addToStack(ANOTHER_TAG);
+
+        assertThat(deeper.typeStackContains(SOME_TAG)).isTrue();
+        assertThat(deeper.typeStackContains(ANOTHER_TAG)).isTrue();
+        assertThat(attrs.typeStackContains(ANOTHER_TAG)).isFalse();
+        assertThat(deeper.typeStack()).startsWith(SOME_TAG).endsWith(ANOTHER_TAG);
+    }
 }
@@ -153,6 +153,25 @@ public class BuiltinPrefabValueProviderTest {
         check(DefaultMutableTreeNode.class);
     }
 
+    @Test
+    void immutableValuesAreSharedBetweenProviders() {
+        var tag = new TypeTag(Instant.class);
+        var first = sut.provide(tag, Attributes.empty()).get();
+        var second = new BuiltinPrefabValueProvider().provide(tag, Attributes.empty()).get();
+
+        assertThat(second.red()).isSameAs(first.red());
+        assertThat(second.blue()).isSameAs(first.blue());
+    }
+
+    @Test
+    void mutableValuesAreCreatedEachTime() {
+        var tag = new TypeTag(AtomicInteger.class);
+        var first = sut.provide(tag, Attributes.empty()).get();
+        var second = sut.provide(tag, Attributes.empty()).get();
+
+        assertThat(second.red()).isNotSameAs(first.red());
+    }
+
     private void check(Class<?> type) {
         var tag = new TypeTag(type);
         assertThat(sut.provide(tag, Attributes.named(SOME_FIELDNAME))).isNotEmpty();
@@ -61,11 +61,47 @@ public class ChainedValueProviderTest {
         assertThat(anotherIntProvider.called).isEqualTo(0);
     }
 
+    @Test
+    public void skipsProviderThatDeclinedTheRawTypeBefore() {
+        stringProvider.declinesRawType = true;
+        sut = new ChainedValueProvider(stringProvider, intProvider);
+
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+
+        assertThat(stringProvider.called).isEqualTo(1);
+        assertThat(intProvider.called).isEqualTo(2);
+    }
+
+    @Test
+    public void asksProviderAgain_whenItDoesNotDeclineTheRawType() {
+        sut = new ChainedValueProvider(stringProvider, intProvider);
+
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+
+        assertThat(stringProvider.called).isEqualTo(2);
+    }
+
+    @Test
+    public void asksProviderAgain_whenPrefabsChange() {
+        var prefabs = new UserPrefabValueCaches();
+        stringProvider.declinesRawType = true;
+        sut = new ChainedValueProvider(prefabs, stringProvider, intProvider);
+
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+        prefabs.register(String.class, "x", "y", "x");
+        sut.provide(INT, Attributes.named(SOME_FIELDNAME));
+
+        assertThat(stringProvider.called).isEqualTo(2);
+    }
+
     static class SingleTypeValueProvider<X> implements ValueProvider {
 
         private final Class<X> type;
         private final Tuple<X> values;
         private int called = 0;
+        private boolean declinesRawType = false;
 
         public SingleTypeValueProvider(Class<X> type, X red, X blue, X redCopy) {
             this.type = type;
@@ -81,5 +117,10 @@ public class ChainedValueProviderTest {
             }
             return Optional.empty();
         }
+
+        @Override
+        public boolean declinesRawType(TypeTag tag) {
+            return declinesRawType;
+        }
     }
 }
@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
 
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import nl.jqno.equalsverifier_testhelpers.types.*;
@@ -80,6 +81,56 @@ public class MockitoValueProviderTest {
         assertThat(tuple.redCopy().toString()).isEqualTo("[red mock for Point]");
     }
 
+    @Test
+    void reusesMocksForTheSameTypeAndFieldName() {
+        var first = sut.provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME)).get();
+        var second = sut.provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME)).get();
+        assertThat(second.red()).isSameAs(first.red());
+        assertThat(second.blue()).isSameAs(first.blue());
+    }
+
+    @Test
+    void reusesMocksAcrossProviders_whenTheyShareACache() {
+        var sharedValues = new SharedValueCache();
+        var first = new MockitoValueProvider(false, sharedValues)
+                .provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME))
+                .get();
+        var second = new MockitoValueProvider(false, sharedValues)
+                .provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME))
+                .get();
+        assertThat(second.red()).isSameAs(first.red());
+    }
+
+    @Test
+    void createsNewMocks_whenProvidersDontShareACache() {
+        var first = sut.provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME)).get();
+        var second = new MockitoValueProvider(false)
+                .provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME))
+                .get();
+        assertThat(second.red()).isNotSameAs(first.red());
+    }
+
+    @Test
+    void doesNotRememberTypesThatCantBeMocked() {
+        var sharedValues = new SharedValueCache();
+        var provider = new MockitoValueProvider(false, sharedValues);
+        var actual = provider.provide(new TypeTag(Unmockable.class), Attributes.named(SOME_FIELD_NAME));
+        assertThat(actual).isEmpty();
+        assertThat(sharedValues.mocks().getOrDefault(Unmockable.class, Map.of())).isEmpty();
+    }
+
+    @Test
+    void createsSeparateMocksForDifferentFieldNames() {
+        var first = sut.provide(new TypeTag(Point.class), Attributes.named(SOME_FIELD_NAME)).get();
+        var second = sut.provide(new TypeTag(Point.class), Attributes.named("otherFieldName")).get();
+        assertThat(second.red()).isNotSameAs(first.red());
+    }
+
+    // Mockito can't mock a sealed interface, because it can't add a subclass to it.
+    sealed interface Unmockable permits UnmockableChild {}
+
+    record UnmockableChild(int i) implements Unmockable {}
+
     private void check(Class<?> type) {
         var tuple = sut.provide(new TypeTag(type), Attributes.named(SOME_FIELD_NAME)).get();
         assertThat(tuple.red()).isNotEqualTo(tuple.blue()).isEqualTo(tuple.redCopy());
@@ -48,6 +48,18 @@ public class ObjectValueProviderTest {
         assertThat(StaticContainer.field).isEqualTo(expected);
     }
 
+    @Test
+    void reusesSharedValuesOfImmutableTypes() {
+        var shared = new SharedValueCache();
+        var first = new ObjectValueProvider(new BuiltinPrefabValueProvider(), new ObjenesisStd(), false, shared);
+        var second = new ObjectValueProvider(new BuiltinPrefabValueProvider(), new ObjenesisStd(), false, shared);
+
+        var expected = first.provideOrThrow(new TypeTag(StringContainer.class), SOME_ATTRIBUTES);
+        var actual = second.provideOrThrow(new TypeTag(StringContainer.class), SOME_ATTRIBUTES);
+
+        assertThat(actual).isSameAs(expected);
+    }
+
     private <T> Tuple<T> provide(Class<T> type) {
         return sut.provideOrThrow(new TypeTag(type), SOME_ATTRIBUTES);
     }
@@ -0,0 +1,92 @@
+package nl.jqno.equalsverifier.internal.valueproviders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import org.junit.jupiter.api.Test;
+
+class SharedValueCacheTest {
+
+    private final SharedValueCache sut = new SharedValueCache();
+
+    @Test
+    void recordWithImmutableComponentsIsImmutable() {
+        assertThat(sut.isImmutable(new TypeTag(Money.class))).isTrue();
+    }
+
+    @Test
+    void classWithNestedImmutableTypesIsImmutable() {
+        assertThat(sut.isImmutable(new TypeTag(Order.class))).isTrue();
+    }
+
+    @Test
+    void classWithNonFinalFieldIsMutable() {
+        assertThat(sut.isImmutable(new TypeTag(MutableContainer.class))).isFalse();
+    }
+
+    @Test
+    void classWithCollectionFieldIsMutable() {
+        assertThat(sut.isImmutable(new TypeTag(ListContainer.class))).isFalse();
+    }
+
+    @Test
+    void classWithArrayFieldIsMutable() {
+        assertThat(sut.isImmutable(new TypeTag(ArrayContainer.class))).isFalse();
+    }
+
+    @Test
+    void selfReferentialTypeIsNotImmutable() {
+        assertThat(sut.isImmutable(new TypeTag(Node.class))).isFalse();
+    }
+
+    @Test
+    void genericTypeDependsOnItsParameters() {
+        assertThat(sut.isImmutable(new TypeTag(Box.class, new TypeTag(String.class)))).isTrue();
+        assertThat(sut.isImmutable(new TypeTag(Box.class, new TypeTag(List.class)))).isFalse();
+    }
+
+    @Test
+    void onlyImmutableValuesAreCached() {
+        var money = new Tuple<>(new Money(BigDecimal.ONE, null), new Money(BigDecimal.TEN, null), null);
+        var container = new Tuple<>(new MutableContainer(), new MutableContainer(), null);
+
+        sut.putIfImmutable(new TypeTag(Money.class), money);
+        sut.putIfImmutable(new TypeTag(MutableContainer.class), container);
+
+        assertThat(sut.<Money>get(new TypeTag(Money.class))).contains(money);
+        assertThat(sut.<MutableContainer>get(new TypeTag(MutableContainer.class))).isEmpty();
+    }
+
+    record Money(BigDecimal amount, Currency currency) {}
+
+    static final class Order {
+        private final Money total;
+        private final int quantity;
+
+        Order(Money total, int quantity) {
+            this.total = total;
+            this.quantity = quantity;
+        }
+    }
+
+    static final class MutableContainer {
+        private String s;
+    }
+
+    static final class ListContainer {
+        private final List<String> list = List.of();
+    }
+
+    static final class ArrayContainer {
+        private final int[] ints = new int[0];
+    }
+
+    record Node(Node next) {}
+
+    record Box<T>(T value) {}
+}
@@ -187,6 +187,38 @@ class SubjectCreatorTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void instancesAreFresh() {
+        assertThat(sut.plain()).isNotSameAs(sut.plain());
+        assertThat(sut.withFieldChanged(fieldI)).isNotSameAs(sut.withFieldChanged(fieldI));
+    }
+
+    @Test
+    void valuesAreLookedUpOncePerField() {
+        var countingValueProvider = new CountingValueProvider();
+        sut = new SubjectCreator<>(config, countingValueProvider, objenesis, false);
+
+        sut.plain();
+        sut.withAllFieldsChanged();
+        sut.withFieldChanged(fieldS);
+        sut.withAllFieldsDefaulted();
+
+        assertThat(countingValueProvider.count).isEqualTo(3);
+    }
+
+    @Test
+    void resettableValuesAreLookedUpEveryTime() {
+        var prefabs = new UserPrefabValueCaches();
+        prefabs.registerResettable(String.class, () -> new String(S_RED), () -> S_BLUE, () -> new String(S_RED));
+        var countingValueProvider = new CountingValueProvider();
+        sut = new SubjectCreator<>(config, countingValueProvider, prefabs, objenesis, false);
+
+        sut.plain();
+        sut.plain();
+
+        assertThat(countingValueProvider.count).isEqualTo(4);
+    }
+
     @Test
     void copyIntoSuperclass() {
         SomeSuper superExpected = new SomeSuper(I_RED);
@@ -287,6 +319,16 @@ class SubjectCreatorTest {
         }
     }
 
+    static class CountingValueProvider extends SubjectCreatorTestValueProvider {
+        private int count = 0;
+
+        @Override
+        public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
+            count++;
+            return super.provide(tag, attributes);
+        }
+    }
+
     static class NoValueProvider implements ValueProvider {
 
         @Override
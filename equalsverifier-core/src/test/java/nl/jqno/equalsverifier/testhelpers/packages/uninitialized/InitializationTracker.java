@@ -0,0 +1,16 @@
+package nl.jqno.equalsverifier.testhelpers.packages.uninitialized;
+
+public final class InitializationTracker {
+
+    private static boolean initialized = false;
+
+    private InitializationTracker() {}
+
+    public static boolean isInitialized() {
+        return initialized;
+    }
+
+    static void markInitialized() {
+        initialized = true;
+    }
+}
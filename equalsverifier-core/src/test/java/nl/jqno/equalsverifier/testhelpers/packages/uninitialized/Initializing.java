@@ -0,0 +1,10 @@
+package nl.jqno.equalsverifier.testhelpers.packages.uninitialized;
+
+public final class Initializing {
+
+    static {
+        InitializationTracker.markInitialized();
+    }
+
+    private Initializing() {}
+}
@@ -8,6 +8,9 @@ module nl.jqno.equalsverifier {
     // Optional dependencies
     requires static org.mockito;
 
+    // Optional checks
+    requires static jdk.management;
+
     // Built-in prefab values
     requires static java.desktop;
     requires static java.naming;
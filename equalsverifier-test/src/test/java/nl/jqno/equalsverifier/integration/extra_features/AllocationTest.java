@@ -0,0 +1,145 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.checkers.AllocationChecker;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+class AllocationTest {
+
+    @Test
+    void succeed_whenEqualsAllocates_givenModeIsNotSet() {
+        EqualsVerifier.forClass(AllocatingEquals.class).verify();
+    }
+
+    @Test
+    void succeed_whenEqualsAndHashCodeDontAllocate() {
+        EqualsVerifier.forClass(NonAllocatingPoint.class).set(Mode.checkAllocations()).verify();
+    }
+
+    @Test
+    void fail_whenEqualsAllocates() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(AllocatingEquals.class).set(Mode.checkAllocations()).verify())
+                .assertFailure()
+                .assertMessageContains(
+                    AllocationChecker.ERROR_DOC_TITLE,
+                    "AllocatingEquals.equals allocates",
+                    "at most 0",
+                    Warning.ALLOCATIONS.toString());
+    }
+
+    @Test
+    void fail_whenHashCodeAllocates() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(AllocatingHashCode.class).set(Mode.checkAllocations()).verify())
+                .assertFailure()
+                .assertMessageContains(AllocationChecker.ERROR_DOC_TITLE, "AllocatingHashCode.hashCode allocates");
+    }
+
+    @Test
+    void succeed_whenEqualsAllocates_givenGenerousBudget() {
+        EqualsVerifier.forClass(AllocatingEquals.class).set(Mode.checkAllocations(1_000_000)).verify();
+    }
+
+    @Test
+    void succeed_whenEqualsAllocates_givenWarningIsSuppressed() {
+        EqualsVerifier
+                .forClass(AllocatingEquals.class)
+                .set(Mode.checkAllocations())
+                .suppress(Warning.ALLOCATIONS)
+                .verify();
+    }
+
+    @Test
+    void restoreAllocationMeasurementSetting_whenDone() {
+        var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        boolean original = bean.isThreadAllocatedMemoryEnabled();
+        try {
+            bean.setThreadAllocatedMemoryEnabled(false);
+
+            EqualsVerifier.forClass(NonAllocatingPoint.class).set(Mode.checkAllocations()).verify();
+
+            assertThat(bean.isThreadAllocatedMemoryEnabled()).isFalse();
+        }
+        finally {
+            bean.setThreadAllocatedMemoryEnabled(original);
+        }
+    }
+
+    @Test
+    void throw_whenBudgetIsNegative() {
+        assertThatThrownBy(() -> Mode.checkAllocations(-1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maxBytesPerCall must not be negative");
+    }
+
+    static final class NonAllocatingPoint {
+        private final int x;
+        private final int y;
+
+        NonAllocatingPoint(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NonAllocatingPoint other && x == other.x && y == other.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + y;
+        }
+    }
+
+    static final class AllocatingEquals {
+        private final int x;
+        private final String name;
+
+        AllocatingEquals(int x, String name) {
+            this.x = x;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof AllocatingEquals other && (x + ":" + name).equals(other.x + ":" + other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + (name == null ? 0 : name.hashCode());
+        }
+    }
+
+    static final class AllocatingHashCode {
+        private final int x;
+        private final String name;
+
+        AllocatingHashCode(int x, String name) {
+            this.x = x;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof AllocatingHashCode other
+                    && x == other.x
+                    && java.util.Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return (x + ":" + name).hashCode();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import nl.jqno.equalsverifier.CostReport;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+class CostProfileTest {
+
+    @Test
+    void costsAreEmpty_whenNotRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(HashesItems.class).report();
+
+        assertThat(report.getCosts().isEmpty()).isTrue();
+    }
+
+    @Test
+    void costsAreEmpty_whenClassIsIncorrect() {
+        EqualsVerifierReport report = EqualsVerifier
+                .forClass(HashesItems.class)
+                .suppress(Warning.NULL_FIELDS)
+                .withIgnoredFields("id")
+                .set(Mode.profileCosts())
+                .report();
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getCosts().isEmpty()).isTrue();
+    }
+
+    @Test
+    void profileHashCode_givenCollectionField() {
+        CostReport costs = EqualsVerifier.forClass(HashesItems.class).set(Mode.profileCosts()).report().getCosts();
+
+        CostReport.Entry entry = costs.getEntry("hashCode", "items").get();
+        assertThat(entry.getMethod()).isEqualTo("hashCode");
+        assertThat(entry.getFieldName()).isEqualTo("items");
+        assertThat(entry.getCheapFieldName()).isEmpty();
+        assertThat(entry.getSmallSize()).isPositive().isLessThan(entry.getLargeSize());
+    }
+
+    @Test
+    void profileEqualsAgainstCheapField_givenCollectionField() {
+        CostReport costs = EqualsVerifier.forClass(ItemsFirst.class).set(Mode.profileCosts()).report().getCosts();
+
+        CostReport.Entry entry = costs.getEntry("equals", "items").get();
+        assertThat(entry.getCheapFieldName()).contains("id");
+        assertThat(entry.getSmallSize()).isPositive().isLessThan(entry.getLargeSize());
+    }
+
+    @Test
+    void profileEachCollectionArrayAndStringField() {
+        CostReport costs = EqualsVerifier
+                .forClass(CheapFirst.class)
+                .suppress(Warning.STRICT_HASHCODE)
+                .set(Mode.profileCosts())
+                .report()
+                .getCosts();
+
+        assertThat(costs.getEntries())
+                .extracting(e -> e.getMethod() + "/" + e.getFieldName())
+                .containsExactly(
+                    "hashCode/items",
+                    "equals/items",
+                    "hashCode/tags",
+                    "equals/tags",
+                    "hashCode/numbers",
+                    "equals/numbers");
+        assertThat(costs.getEntries())
+                .filteredOn(e -> e.getMethod().equals("equals"))
+                .allMatch(e -> e.getCheapFieldName().equals(Optional.of("id")));
+    }
+
+    @Test
+    void reportFinding_whenCostGrowsWithSize() {
+        var linear = new CostReport.Entry("hashCode", "items", null, 1_000, 8_000, 100.0, 800.0);
+        var report = new CostReport(List.of(linear));
+
+        assertThat(linear.getGrowthRate()).isCloseTo(1.0, within(0.001));
+        assertThat(linear.isConstantTime()).isFalse();
+        assertThat(report.getFindings())
+                .containsExactly("hashCode takes longer as field items gets larger (growth rate 1.0).");
+    }
+
+    @Test
+    void reportFinding_whenEqualsComparesExpensiveFieldFirst() {
+        var report = new CostReport(List.of(new CostReport.Entry("equals", "items", "id", 1_000, 8_000, 100.0, 800.0)));
+
+        assertThat(report.getFindings())
+                .containsExactly(
+                    "equals compares field items before field id, even when id already differs (growth rate 1.0).");
+    }
+
+    @Test
+    void reportNoFindings_whenCostDoesNotGrowWithSize() {
+        var constant = new CostReport.Entry("equals", "items", "id", 1_000, 8_000, 100.0, 110.0);
+        var subNanosecond = new CostReport.Entry("hashCode", "items", null, 1_000, 8_000, 0.1, 0.9);
+        var report = new CostReport(List.of(constant, subNanosecond));
+
+        assertThat(constant.isConstantTime()).isTrue();
+        assertThat(subNanosecond.getGrowthRate()).isZero();
+        assertThat(report.getFindings()).isEmpty();
+    }
+
+    @Test
+    void costsAreReportedForEachClass_givenSeveralClasses() {
+        List<EqualsVerifierReport> reports =
+                EqualsVerifier.forClasses(HashesItems.class, ItemsFirst.class).set(Mode.profileCosts()).report();
+
+        assertThat(reports).allMatch(r -> !r.getCosts().isEmpty());
+    }
+
+    static final class HashesItems {
+        private final int id;
+        private final List<String> items;
+
+        HashesItems(int id, List<String> items) {
+            this.id = id;
+            this.items = items;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof HashesItems other && id == other.id && Objects.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, items);
+        }
+    }
+
+    static final class ItemsFirst {
+        private final List<String> items;
+        private final int id;
+
+        ItemsFirst(List<String> items, int id) {
+            this.items = items;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ItemsFirst other && Objects.equals(items, other.items) && id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * id + Objects.hashCode(items);
+        }
+    }
+
+    static final class CheapFirst {
+        private final int id;
+        private final List<String> items;
+        private final Set<String> tags;
+        private final int[] numbers;
+
+        CheapFirst(int id, List<String> items, Set<String> tags, int[] numbers) {
+            this.id = id;
+            this.items = items;
+            this.tags = tags;
+            this.numbers = numbers;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CheapFirst other
+                    && id == other.id
+                    && Objects.equals(items, other.items)
+                    && Objects.equals(tags, other.tags)
+                    && java.util.Arrays.equals(numbers, other.numbers);
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
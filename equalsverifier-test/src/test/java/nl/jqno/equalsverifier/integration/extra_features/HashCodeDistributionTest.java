@@ -0,0 +1,119 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+class HashCodeDistributionTest {
+
+    @Test
+    void succeed_whenHashCodeIsPoor_givenModeIsNotSet() {
+        EqualsVerifier.forClass(XorPoint.class).verify();
+    }
+
+    @Test
+    void succeed_whenHashCodeSpreadsWell() {
+        EqualsVerifier.forClass(GoodPoint.class).set(Mode.checkHashCodeDistribution()).verify();
+    }
+
+    @Test
+    void succeed_whenClassHasTooFewStatesToMeasure() {
+        EqualsVerifier.forClass(Flag.class).set(Mode.checkHashCodeDistribution()).verify();
+    }
+
+    @Test
+    void fail_whenSymmetricFieldsCollide() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(XorPoint.class).set(Mode.checkHashCodeDistribution()).verify())
+                .assertFailure()
+                .assertMessageContains(
+                    "hashCode distribution",
+                    XorPoint.class.getSimpleName(),
+                    "share their hash code with another instance");
+    }
+
+    @Test
+    void succeed_whenSymmetricFieldsCollide_givenGenerousThreshold() {
+        EqualsVerifier.forClass(XorPoint.class).set(Mode.checkHashCodeDistribution(1.0)).verify();
+    }
+
+    @Test
+    void fail_whenHashCodeOnlyUsesABoolean() {
+        ExpectedException
+                .when(
+                    () -> EqualsVerifier
+                            .forClass(BooleanHash.class)
+                            .suppress(Warning.STRICT_HASHCODE)
+                            .set(Mode.checkHashCodeDistribution())
+                            .verify())
+                .assertFailure()
+                .assertMessageContains("hashCode distribution", "share their hash code", "HashMap buckets used");
+    }
+
+    @Test
+    void fail_whenFieldBarelyAffectsHashCode() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(WeakField.class).set(Mode.checkHashCodeDistribution(1.0)).verify())
+                .assertFailure()
+                .assertMessageContains("Fields that barely affect hashCode", "x (0%)");
+    }
+
+    @Test
+    void fail_whenModeIsSetThroughConfiguredEqualsVerifier() {
+        var ev = EqualsVerifier.configure().set(Mode.checkHashCodeDistribution());
+        ExpectedException
+                .when(() -> ev.forClass(XorPoint.class).verify())
+                .assertFailure()
+                .assertMessageContains("hashCode distribution");
+    }
+
+    @Test
+    void strictestThresholdWins() {
+        ExpectedException
+                .when(
+                    () -> EqualsVerifier
+                            .forClass(XorPoint.class)
+                            .set(Mode.checkHashCodeDistribution(1.0), Mode.checkHashCodeDistribution(0.01))
+                            .verify())
+                .assertFailure()
+                .assertMessageContains("at most 1.0% may");
+    }
+
+    @Test
+    void throw_whenThresholdIsOutOfRange() {
+        assertThatThrownBy(() -> Mode.checkHashCodeDistribution(1.5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maxCollisionRate must be between 0 and 1");
+    }
+
+    record GoodPoint(int x, int y) {}
+
+    record Flag(boolean on) {}
+
+    record XorPoint(int x, int y) {
+        @Override
+        public int hashCode() {
+            return x ^ y;
+        }
+    }
+
+    record BooleanHash(boolean flag, String name) {
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(flag);
+        }
+    }
+
+    record WeakField(int x, String name) {
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, x == 1);
+        }
+    }
+}
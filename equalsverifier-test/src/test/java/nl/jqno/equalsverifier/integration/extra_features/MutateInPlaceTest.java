@@ -0,0 +1,170 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+class MutateInPlaceTest {
+
+    @Test
+    void succeed_whenClassIsCorrect() {
+        EqualsVerifier.forClass(Wide.class).set(Mode.mutateInPlace()).verify();
+    }
+
+    @Test
+    void succeed_whenClassIsRecord() {
+        EqualsVerifier.forClass(WideRecord.class).set(Mode.mutateInPlace()).verify();
+    }
+
+    @Test
+    void fail_whenHashCodeIgnoresField() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(HashCodeIgnoresField.class).set(Mode.mutateInPlace()).verify())
+                .assertFailure()
+                .assertMessageContains("Significant fields: equals relies on", "c", "but hashCode does not");
+    }
+
+    @Test
+    void fail_whenEqualsIgnoresField() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(EqualsIgnoresField.class).set(Mode.mutateInPlace()).verify())
+                .assertFailure()
+                .assertMessageContains("Significant fields: equals does not use", "c");
+    }
+
+    @Test
+    void fail_whenFieldIsNotFinal() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(NonFinal.class).set(Mode.mutateInPlace()).verify())
+                .assertFailure()
+                .assertMessageContains("Mutability: equals depends on mutable field", "b");
+    }
+
+    @Test
+    void createFewerInstances_whenModeIsSet() {
+        EqualsVerifierReport plain = EqualsVerifier.forClass(Wide.class).set(Mode.recordTimings()).report();
+        EqualsVerifierReport inPlace =
+                EqualsVerifier.forClass(Wide.class).set(Mode.recordTimings(), Mode.mutateInPlace()).report();
+
+        assertThat(inPlace.isSuccessful()).isTrue();
+        assertThat(instancesCreated(inPlace)).isLessThan(instancesCreated(plain));
+    }
+
+    private static long instancesCreated(EqualsVerifierReport report) {
+        return report.getTimings().getEntry("FieldsChecker").get().getInstancesCreated();
+    }
+
+    static final class Wide {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final List<String> d;
+        private final double e;
+        private final Object f;
+
+        Wide(int a, String b, long c, List<String> d, double e, Object f) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Wide other
+                    && a == other.a
+                    && c == other.c
+                    && Double.compare(e, other.e) == 0
+                    && Objects.equals(b, other.b)
+                    && Objects.equals(d, other.d)
+                    && Objects.equals(f, other.f);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f);
+        }
+    }
+
+    record WideRecord(int a, String b, long c, List<String> d, double e, Object f) {}
+
+    static final class HashCodeIgnoresField {
+
+        private final int a;
+        private final String b;
+        private final long c;
+
+        HashCodeIgnoresField(int a, String b, long c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof HashCodeIgnoresField other
+                    && a == other.a
+                    && c == other.c
+                    && Objects.equals(b, other.b);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b);
+        }
+    }
+
+    static final class EqualsIgnoresField {
+
+        private final int a;
+        private final String b;
+        private final long c;
+
+        EqualsIgnoresField(int a, String b, long c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EqualsIgnoresField other && a == other.a && Objects.equals(b, other.b);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b);
+        }
+    }
+
+    static final class NonFinal {
+
+        private final int a;
+        private String b;
+
+        NonFinal(int a, String b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NonFinal other && a == other.a && Objects.equals(b, other.b);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class ParallelFieldChecksTest {
+
+    @Test
+    void succeed_whenClassIsCorrect() {
+        EqualsVerifier.forClass(Wide.class).set(Mode.parallelFieldChecks()).verify();
+    }
+
+    @Test
+    void succeed_whenClassIsRecord() {
+        EqualsVerifier.forClass(WideRecord.class).set(Mode.parallelFieldChecks()).verify();
+    }
+
+    @Test
+    void succeed_whenModeIsCombinedWithMutateInPlace() {
+        EqualsVerifier.forClass(Wide.class).set(Mode.parallelFieldChecks(), Mode.mutateInPlace()).verify();
+    }
+
+    @Test
+    void succeed_whenPrefabValuesForFieldsAreGiven() {
+        EqualsVerifier
+                .forClass(WideRecursive.class)
+                .withPrefabValuesForField("b", new Node(1, null), new Node(2, null))
+                .withPrefabValuesForField("c", new Node(1, null), new Node(2, null))
+                .withPrefabValuesForField("d", new Node(1, null), new Node(2, null))
+                .withPrefabValuesForField("e", new Node(1, null), new Node(2, null))
+                .withPrefabValuesForField("f", new Node(1, null), new Node(2, null))
+                .withPrefabValuesForField("g", new Node(1, null), new Node(2, null))
+                .set(Mode.parallelFieldChecks())
+                .verify();
+    }
+
+    @Test
+    void fail_whenHashCodeIgnoresFields() {
+        ExpectedException
+                .when(
+                    () -> EqualsVerifier.forClass(HashCodeIgnoresFields.class).set(Mode.parallelFieldChecks()).verify())
+                .assertFailure()
+                .assertMessageContains("Significant fields: equals relies on", "c", "but hashCode does not");
+    }
+
+    @Test
+    void fail_whenFieldIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(NullUnsafe.class).set(Mode.parallelFieldChecks()).verify())
+                .assertFailure()
+                .assertMessageContains("Non-nullity: equals throws NullPointerException", "field b");
+    }
+
+    @RepeatedTest(5)
+    void succeed_whenEqualsReadsMutableStaticField() {
+        EqualsVerifier.forClass(ReadsStatic.class).set(Mode.parallelFieldChecks()).verify();
+    }
+
+    @Test
+    void countInstancesOfAllWorkers_whenTimingsAreRecorded() {
+        EqualsVerifierReport sequential = EqualsVerifier.forClass(Wide.class).set(Mode.recordTimings()).report();
+        EqualsVerifierReport parallel =
+                EqualsVerifier.forClass(Wide.class).set(Mode.recordTimings(), Mode.parallelFieldChecks()).report();
+
+        assertThat(parallel.isSuccessful()).isTrue();
+        assertThat(instancesCreated(parallel, "FieldsChecker/SymmetryFieldCheck"))
+                .isEqualTo(instancesCreated(sequential, "FieldsChecker/SymmetryFieldCheck"));
+        assertThat(instancesCreated(parallel, "FieldsChecker"))
+                .isGreaterThanOrEqualTo(instancesCreated(sequential, "FieldsChecker"));
+    }
+
+    @RepeatedTest(10)
+    void reportSameFailureAsSequentialRun_whenSeveralFieldsFail() {
+        EqualsVerifierReport sequential = EqualsVerifier.forClass(HashCodeIgnoresFields.class).report();
+        EqualsVerifierReport parallel =
+                EqualsVerifier.forClass(HashCodeIgnoresFields.class).set(Mode.parallelFieldChecks()).report();
+
+        assertThat(parallel.isSuccessful()).isFalse();
+        assertThat(parallel.getMessage()).isEqualTo(sequential.getMessage());
+    }
+
+    private static long instancesCreated(EqualsVerifierReport report, String entry) {
+        return report.getTimings().getEntry(entry).get().getInstancesCreated();
+    }
+
+    static final class Wide {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final List<String> d;
+        private final double e;
+        private final Object f;
+        private final boolean g;
+
+        Wide(int a, String b, long c, List<String> d, double e, Object f, boolean g) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Wide other
+                    && a == other.a
+                    && c == other.c
+                    && Double.compare(e, other.e) == 0
+                    && g == other.g
+                    && Objects.equals(b, other.b)
+                    && Objects.equals(d, other.d)
+                    && Objects.equals(f, other.f);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f, g);
+        }
+    }
+
+    record Node(int value, Node next) {}
+
+    record WideRecursive(int a, Node b, Node c, Node d, Node e, Node f, Node g) {}
+
+    record WideRecord(int a, String b, long c, List<String> d, double e, Object f, boolean g, char h, String i) {}
+
+    static final class HashCodeIgnoresFields {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final String d;
+        private final int e;
+        private final long f;
+
+        HashCodeIgnoresFields(int a, String b, long c, String d, int e, long f) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof HashCodeIgnoresFields other
+                    && a == other.a
+                    && c == other.c
+                    && e == other.e
+                    && f == other.f
+                    && Objects.equals(b, other.b)
+                    && Objects.equals(d, other.d);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, d);
+        }
+    }
+
+    static final class ReadsStatic {
+
+        private static String separator = ",";
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final String d;
+        private final int e;
+        private final String f;
+
+        ReadsStatic(int a, String b, long c, String d, int e, String f) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ReadsStatic other)) {
+                return false;
+            }
+            if (separator == null) {
+                // Only the check on the static field itself gets here, so give the other workers time to get here too.
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            }
+            boolean same = a == other.a
+                    && c == other.c
+                    && e == other.e
+                    && Objects.equals(b, other.b)
+                    && Objects.equals(d, other.d)
+                    && Objects.equals(f, other.f);
+            // The static field is only read when the instances differ, which they never do during its own check.
+            return same || separator.isEmpty();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f);
+        }
+    }
+
+    static final class NullUnsafe {
+
+        private final int a;
+        private final String b;
+        private final String c;
+
+        NullUnsafe(int a, String b, String c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NullUnsafe other && a == other.a && b.equals(other.b) && c.equals(other.c);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package nl.jqno.equalsverifier.integration.operational;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
@@ -19,6 +23,7 @@ import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.subpackage.Incor
 import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.subpackage.IncorrectP;
 import nl.jqno.equalsverifier_testhelpers.ExpectedException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @SuppressWarnings("CheckReturnValue")
 class MultipleTypeEqualsVerifierTest {
@@ -330,6 +335,117 @@ class MultipleTypeEqualsVerifierTest {
         assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
     }
 
+    @Test
+    void succeed_whenVerifyingACorrectPackageRecursivelyInParallel() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.recursive()).parallel().verify();
+    }
+
+    @Test
+    void fail_whenVerifyingAPackageRecursivelyInParallelWithFourIncorrectClasses() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forPackage(INCORRECT_PACKAGE, ScanOption.recursive()).parallel().verify())
+                .assertFailure()
+                .assertMessageContains(
+                    "EqualsVerifier found a problem in 4 classes.",
+                    "* " + INCORRECT_M,
+                    "* " + INCORRECT_N,
+                    "* " + INCORRECT_O,
+                    "* " + INCORRECT_P);
+    }
+
+    @Test
+    void fail_whenReportingInParallelOnTwoIncorrectClasses_givenAnExecutor() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            List<EqualsVerifierReport> reports = EqualsVerifier
+                    .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                    .parallel(executor)
+                    .report();
+
+            assertThat(reports).hasSize(4);
+            assertSuccessful(reports.get(0), A.class);
+            assertSuccessful(reports.get(2), C.class);
+            assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+            assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void fail_whenExecutorIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClasses(A.class, B.class).parallel(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("executor is null");
+    }
+
+    @Test
+    void fail_whenReportingIncrementallyOnTwoIncorrectClasses(@TempDir Path dir) throws IOException {
+        Path stateFile = dir.resolve("state.properties");
+        for (int i = 0; i < 2; i++) {
+            List<EqualsVerifierReport> reports = EqualsVerifier
+                    .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                    .incremental(stateFile)
+                    .report();
+
+            assertThat(reports).hasSize(4);
+            assertSuccessful(reports.get(0), A.class);
+            assertSuccessful(reports.get(2), C.class);
+            assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+            assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
+        }
+
+        String state = Files.readString(stateFile);
+        assertThat(state).contains(A.class.getName(), C.class.getName());
+        assertThat(state).doesNotContain(IncorrectM.class.getName(), IncorrectN.class.getName());
+    }
+
+    @Test
+    void succeed_whenVerifyingACorrectPackageIncrementallyInParallel(@TempDir Path dir) {
+        Path stateFile = dir.resolve("state.properties");
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.recursive()).incremental(stateFile).parallel().verify();
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.recursive()).incremental(stateFile).parallel().verify();
+    }
+
+    @Test
+    void verifyEveryTime_whenReportingIncrementally_givenPrefabValues(@TempDir Path dir) {
+        Path stateFile = dir.resolve("state.properties");
+        for (int i = 0; i < 2; i++) {
+            List<EqualsVerifierReport> reports = EqualsVerifier
+                    .forClasses(A.class, IncorrectM.class)
+                    .withPrefabValues(StringBuilder.class, new StringBuilder("red"), new StringBuilder("blue"))
+                    .incremental(stateFile)
+                    .report();
+
+            assertSuccessful(reports.get(0), A.class);
+            assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        }
+
+        assertThat(stateFile).doesNotExist();
+    }
+
+    @Test
+    void verifyEveryTime_whenReportingIncrementally_givenFieldnameToGetterConverter(@TempDir Path dir) {
+        Path stateFile = dir.resolve("state.properties");
+        EqualsVerifier
+                .forClasses(A.class, C.class)
+                .withFieldnameToGetterConverter(f -> f)
+                .incremental(stateFile)
+                .verify();
+
+        assertThat(stateFile).doesNotExist();
+    }
+
+    @Test
+    void fail_whenStateFileIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClasses(A.class, B.class).incremental(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("stateFile is null");
+    }
+
     private void assertSuccessful(EqualsVerifierReport report, Class<?> type) {
         assertThat(report.isSuccessful()).isTrue();
         assertThat(report.getType()).isEqualTo(type);
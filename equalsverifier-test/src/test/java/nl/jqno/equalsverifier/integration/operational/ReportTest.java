@@ -3,11 +3,16 @@ package nl.jqno.equalsverifier.integration.operational;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.List;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.TimingReport;
 import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
 import nl.jqno.equalsverifier_testhelpers.types.FinalPoint;
 import nl.jqno.equalsverifier_testhelpers.types.Point;
+import nl.jqno.equalsverifier_testhelpers.types.RecordPoint;
 import org.junit.jupiter.api.Test;
 
 class ReportTest {
@@ -60,4 +65,43 @@ class ReportTest {
             }
         }
     }
+
+    @Test
+    void timingsAreEmpty_whenNotRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).report();
+
+        assertThat(report.getTimings().isEmpty()).isTrue();
+    }
+
+    @Test
+    void timingsContainCheckersAndFieldChecks_whenRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).set(Mode.recordTimings()).report();
+
+        TimingReport timings = report.getTimings();
+        assertThat(timings.getEntry("NullChecker")).isPresent();
+        assertThat(timings.getEntry("FieldsChecker/ReflexivityFieldCheck")).isPresent();
+        assertThat(timings.getEntry("FieldsChecker").get().getInstancesCreated()).isPositive();
+        assertThat(timings.getTotalDuration()).isPositive();
+    }
+
+    @Test
+    void timingsAreRecorded_whenClassIsIncorrect() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).set(Mode.recordTimings()).report();
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getTimings().isEmpty()).isFalse();
+    }
+
+    @Test
+    void timingsCanBeAggregated() {
+        List<EqualsVerifierReport> reports =
+                EqualsVerifier.forClasses(FinalPoint.class, RecordPoint.class).set(Mode.recordTimings()).report();
+
+        TimingReport aggregate = TimingReport.aggregate(reports);
+        long instances = reports
+                .stream()
+                .mapToLong(r -> r.getTimings().getEntry("FieldsChecker").get().getInstancesCreated())
+                .sum();
+        assertThat(aggregate.getEntry("FieldsChecker").get().getInstancesCreated()).isEqualTo(instances);
+    }
 }